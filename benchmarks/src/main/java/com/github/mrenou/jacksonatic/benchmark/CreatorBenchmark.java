@@ -0,0 +1,67 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialization of a large array of small immutable objects, built with a constructor or a static factory.
+ * <p>
+ * Compare the reflective call of the creator ({@link MappingStyle#JACKSONATIC}) with the call through a method handle
+ * ({@link MappingStyle#JACKSONATIC_DIRECT_CREATOR}) and with native annotations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreatorBenchmark {
+
+    @Param({"CONSTRUCTOR", "STATIC_FACTORY"})
+    public Scenario scenario;
+
+    @Param({"JACKSONATIC", "JACKSONATIC_DIRECT_CREATOR", "ANNOTATIONS"})
+    public MappingStyle mappingStyle;
+
+    @Param({"1000000"})
+    public int objectCount;
+
+    private ObjectReader reader;
+
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = mappingStyle.objectMapper(scenario);
+        Object value = mappingStyle.value(scenario);
+        reader = objectMapper.reader(objectMapper.getTypeFactory().constructCollectionType(List.class, value.getClass()));
+        json = objectMapper.writeValueAsBytes(Collections.nCopies(objectCount, value));
+    }
+
+    @Benchmark
+    public List<?> deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+
+}
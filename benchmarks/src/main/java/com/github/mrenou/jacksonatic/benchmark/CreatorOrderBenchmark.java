@@ -0,0 +1,84 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.mrenou.jacksonatic.benchmark.model.PlainModel.PartialConstructorPojo;
+import com.github.mrenou.jacksonatic.mapping.ClassMapping;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.mrenou.jacksonatic.Jacksonatic.configureMapping;
+import static com.github.mrenou.jacksonatic.mapping.ClassMapping.type;
+import static com.github.mrenou.jacksonatic.mapping.ParameterCriteria.matchField;
+
+/**
+ * Deserialization of a list of objects built with a constructor taking some of their properties, mapped for
+ * deserialization only. The constructor properties are written last (declaration order) or first
+ * ({@link ClassMapping#creatorPropertiesFirst()}).
+ * <p>
+ * Run with {@code -prof gc} to get the allocation per operation: properties read before the last constructor parameter
+ * are kept until the object is built.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreatorOrderBenchmark {
+
+    @Param({"1000"})
+    public int valueCount;
+
+    @Param({"declaration", "creator"})
+    public String propertyOrder;
+
+    private ObjectReader reader;
+
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        ClassMapping<PartialConstructorPojo> mapping = type(PartialConstructorPojo.class)
+                .mapAll()
+                .onDeserialization()
+                .withConstructor(matchField("id").mappedBy("id"), matchField("name").mappedBy("name"));
+        if (propertyOrder.equals("creator")) {
+            mapping.creatorPropertiesFirst();
+        }
+        ObjectMapper objectMapper = new ObjectMapper();
+        configureMapping().on(mapping).registerIn(objectMapper);
+
+        List<PartialConstructorPojo> values = new ArrayList<>(valueCount);
+        for (int i = 0; i < valueCount; i++) {
+            values.add(new PartialConstructorPojo("id" + i, "name" + i, i, 1460000000000L + i, i / 7d, i % 2 == 0, "description " + i));
+        }
+        reader = objectMapper.reader(objectMapper.getTypeFactory().constructCollectionType(List.class, PartialConstructorPojo.class));
+        json = objectMapper.writeValueAsBytes(values);
+    }
+
+    @Benchmark
+    public List<PartialConstructorPojo> deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+
+}
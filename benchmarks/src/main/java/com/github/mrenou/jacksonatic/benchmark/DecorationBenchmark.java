@@ -0,0 +1,79 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.benchmark;
+
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.github.mrenou.jacksonatic.Jacksonatic;
+import com.github.mrenou.jacksonatic.benchmark.model.SyntheticModel;
+import com.github.mrenou.jacksonatic.internal.JacksonOperation;
+import com.github.mrenou.jacksonatic.internal.JacksonaticInternal;
+import com.github.mrenou.jacksonatic.internal.annotations.ClassAnnotationDecorator;
+import com.github.mrenou.jacksonatic.internal.introspection.AnnotatedClassConstructor;
+import com.github.mrenou.jacksonatic.internal.mapping.ClassMappingInternal;
+import com.github.mrenou.jacksonatic.mapping.ClassMapping;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.github.mrenou.jacksonatic.Jacksonatic.configureMapping;
+import static com.github.mrenou.jacksonatic.mapping.ClassMapping.type;
+
+/**
+ * Cost of the decoration of a class with many accessors, like a generated DTO, by its class mapping: every member
+ * method is looked up in the method mappings of the class.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecorationBenchmark {
+
+    @Param({"10", "200"})
+    public int propertyCount;
+
+    @Param({"0", "10"})
+    public int mappedAccessorCount;
+
+    private final ClassAnnotationDecorator classAnnotationDecorator = new ClassAnnotationDecorator();
+
+    private AnnotatedClass annotatedClass;
+
+    private ClassMappingInternal<Object> classMapping;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        Class<Object> dtoType = (Class<Object>) SyntheticModel.generateWithAccessors(propertyCount);
+        ClassMapping<Object> dtoMapping = type(dtoType).mapAll();
+        for (int p = 0; p < mappedAccessorCount; p++) {
+            dtoMapping.mapGetter("property" + p, "p" + p).mapSetter("property" + p, "p" + p);
+        }
+        Jacksonatic jacksonatic = configureMapping().on(dtoMapping);
+        classMapping = new AnnotatedClassConstructor((JacksonaticInternal) jacksonatic)
+                .getMergedClassMapping(JacksonOperation.SERIALIZATION, dtoType).get();
+        annotatedClass = AnnotatedClass.construct(dtoType, new JacksonAnnotationIntrospector(), null);
+        annotatedClass.memberMethods();
+    }
+
+    @Benchmark
+    public AnnotatedClass decorate() {
+        return classAnnotationDecorator.decorate(JacksonOperation.SERIALIZATION, annotatedClass, classMapping);
+    }
+
+}
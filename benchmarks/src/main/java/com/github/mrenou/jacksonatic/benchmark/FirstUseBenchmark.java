@@ -0,0 +1,63 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the first use of a model: creation of the object mapper, registration of the mapping, then first
+ * serialization and deserialization, building the serializer and the deserializer.
+ * <p>
+ * Compare {@link MappingStyle#JACKSONATIC}, decorating the classes in its class introspector, with
+ * {@link MappingStyle#JACKSONATIC_MIX_INS}, compiling the mapping into mix-ins introspected by Jackson. Run with
+ * {@code -wi 0 -f 10} to measure a cold JVM instead of a warmed-up one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 20)
+@Fork(1)
+public class FirstUseBenchmark {
+
+    @Param
+    public Scenario scenario;
+
+    @Param({"JACKSONATIC", "JACKSONATIC_MIX_INS"})
+    public MappingStyle mappingStyle;
+
+    private Object value;
+
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        value = mappingStyle.value(scenario);
+        json = mappingStyle.objectMapper(scenario).writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public Object firstUse() throws IOException {
+        ObjectMapper objectMapper = mappingStyle.objectMapper(scenario);
+        objectMapper.writeValueAsBytes(value);
+        return objectMapper.readValue(json, value.getClass());
+    }
+
+}
@@ -0,0 +1,88 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.benchmark;
+
+import com.github.mrenou.jacksonatic.Jacksonatic;
+import com.github.mrenou.jacksonatic.benchmark.model.SyntheticModel;
+import com.github.mrenou.jacksonatic.internal.JacksonaticInternal;
+import com.github.mrenou.jacksonatic.internal.introspection.AnnotatedClassConstructor;
+import com.github.mrenou.jacksonatic.mapping.ClassMapping;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.util.Multiset;
+
+import java.lang.reflect.Field;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.github.mrenou.jacksonatic.Jacksonatic.configureMapping;
+import static com.github.mrenou.jacksonatic.mapping.ClassMapping.type;
+
+/**
+ * Retained heap of a large mapping, measured with JOL:
+ * <ul>
+ * <li>the configuration, each field of each class being mapped with a name</li>
+ * <li>the class mappings merged with the ones of their super types, for serialization and deserialization</li>
+ * </ul>
+ * Arguments are the class count, the depth and the field count of the generated model, 2000 classes of depth 5 with 10
+ * fields by default:
+ * <pre>
+ * java -cp target/benchmarks.jar com.github.mrenou.jacksonatic.benchmark.FootprintReport 2000 5 10
+ * </pre>
+ */
+public class FootprintReport {
+
+    private static final int FOOTPRINT_LINES = 12;
+
+    public static void main(String[] args) {
+        int classCount = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int depth = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int fieldCount = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        List<Class<?>> types = SyntheticModel.generate(classCount, depth, fieldCount).getTypes();
+
+        JacksonaticInternal jacksonatic = (JacksonaticInternal) mapping(types);
+        AnnotatedClassConstructor annotatedClassConstructor = new AnnotatedClassConstructor(jacksonatic);
+        annotatedClassConstructor.resolveMergedClassMappings(1);
+
+        // classes and their reflection data are not part of the mapping
+        GraphLayout typesLayout = GraphLayout.parseInstance(types.toArray());
+        GraphLayout configurationLayout = GraphLayout.parseInstance(jacksonatic.getClassesMappingByOperation()).subtract(typesLayout);
+        report("Configuration", configurationLayout);
+        report("Merged class mappings", GraphLayout.parseInstance(annotatedClassConstructor).subtract(configurationLayout).subtract(typesLayout));
+    }
+
+    private static Jacksonatic mapping(List<Class<?>> types) {
+        Jacksonatic jacksonatic = configureMapping();
+        for (Class<?> type : types) {
+            ClassMapping<?> classMapping = type(type);
+            for (Field field : type.getDeclaredFields()) {
+                classMapping.map(field.getName(), "json_" + field.getName());
+            }
+            jacksonatic.on(classMapping);
+        }
+        return jacksonatic;
+    }
+
+    private static void report(String title, GraphLayout layout) {
+        System.out.printf("# %s : %d KB in %d objects%n", title, layout.totalSize() / 1024, layout.totalCount());
+        System.out.printf("%10s %10s   %s%n", "COUNT", "SUM", "DESCRIPTION");
+        Multiset<Class<?>> classSizes = layout.getClassSizes();
+        classSizes.keys().stream()
+                .sorted(Comparator.comparingLong((Class<?> type) -> classSizes.count(type)).reversed())
+                .limit(FOOTPRINT_LINES)
+                .forEach(type -> System.out.printf("%10d %10d   %s%n", layout.getClassCounts().count(type), classSizes.count(type), type.getName()));
+        System.out.println();
+    }
+}
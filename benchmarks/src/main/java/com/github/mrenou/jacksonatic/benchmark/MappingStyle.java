@@ -0,0 +1,115 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mrenou.jacksonatic.benchmark.model.MixInModel;
+
+import static com.github.mrenou.jacksonatic.Jacksonatic.configureMapping;
+import static com.github.mrenou.jacksonatic.JacksonaticOptions.options;
+
+/**
+ * The ways to configure a same model
+ */
+public enum MappingStyle {
+
+    JACKSONATIC {
+        @Override
+        public ObjectMapper objectMapper(Scenario scenario) {
+            ObjectMapper objectMapper = new ObjectMapper();
+            scenario.map(configureMapping()).registerIn(objectMapper);
+            return objectMapper;
+        }
+
+        @Override
+        public Object value(Scenario scenario) {
+            return scenario.plainValue();
+        }
+    },
+
+    JACKSONATIC_MIX_INS {
+        @Override
+        public ObjectMapper objectMapper(Scenario scenario) {
+            ObjectMapper objectMapper = new ObjectMapper();
+            scenario.map(configureMapping(options().compileToMixIns().build())).registerIn(objectMapper);
+            return objectMapper;
+        }
+
+        @Override
+        public Object value(Scenario scenario) {
+            return scenario.plainValue();
+        }
+    },
+
+    JACKSONATIC_DIRECT_FIELD_ACCESS {
+        @Override
+        public ObjectMapper objectMapper(Scenario scenario) {
+            ObjectMapper objectMapper = new ObjectMapper();
+            scenario.map(configureMapping(options().directFieldAccess().build())).registerIn(objectMapper);
+            return objectMapper;
+        }
+
+        @Override
+        public Object value(Scenario scenario) {
+            return scenario.plainValue();
+        }
+    },
+
+    JACKSONATIC_DIRECT_CREATOR {
+        @Override
+        public ObjectMapper objectMapper(Scenario scenario) {
+            ObjectMapper objectMapper = new ObjectMapper();
+            scenario.map(configureMapping(options().directCreatorInvocation().build())).registerIn(objectMapper);
+            return objectMapper;
+        }
+
+        @Override
+        public Object value(Scenario scenario) {
+            return scenario.plainValue();
+        }
+    },
+
+    ANNOTATIONS {
+        @Override
+        public ObjectMapper objectMapper(Scenario scenario) {
+            return new ObjectMapper();
+        }
+
+        @Override
+        public Object value(Scenario scenario) {
+            return scenario.annotatedValue();
+        }
+    },
+
+    MIX_IN {
+        @Override
+        public ObjectMapper objectMapper(Scenario scenario) {
+            ObjectMapper objectMapper = new ObjectMapper();
+            MixInModel.registerIn(objectMapper);
+            return objectMapper;
+        }
+
+        @Override
+        public Object value(Scenario scenario) {
+            return scenario.plainValue();
+        }
+    };
+
+    public abstract ObjectMapper objectMapper(Scenario scenario);
+
+    public abstract Object value(Scenario scenario);
+
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.mrenou.jacksonatic.JacksonaticOptions;
+import com.github.mrenou.jacksonatic.benchmark.model.SyntheticModel;
+import com.github.mrenou.jacksonatic.mapping.ClassMapping;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.mrenou.jacksonatic.Jacksonatic.configureMapping;
+import static com.github.mrenou.jacksonatic.JacksonaticOptions.options;
+import static com.github.mrenou.jacksonatic.mapping.ClassMapping.type;
+
+/**
+ * Serialization and deserialization of a list of polymorphic values, a base class having hundreds of named sub types,
+ * with the type id tables of Jacksonatic, with the type id resolver of Jackson and with compact type ids.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolymorphismBenchmark {
+
+    @Param({"300"})
+    public int subTypeCount;
+
+    @Param({"1000"})
+    public int valueCount;
+
+    @Param({"table", "jackson", "compact"})
+    public String typeIds;
+
+    private List<Object> values;
+
+    private ObjectWriter writer;
+
+    private ObjectReader reader;
+
+    private byte[] json;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        List<Class<?>> types = SyntheticModel.generateHierarchy(subTypeCount).getTypes();
+        Class<Object> base = (Class<Object>) types.get(0);
+        ClassMapping<Object> baseMapping = type(base).mapAll().fieldForTypeName("type");
+        for (int i = 1; i < types.size(); i++) {
+            baseMapping.addNamedSubType((Class<Object>) types.get(i), "event-" + i);
+        }
+        if (typeIds.equals("compact")) {
+            baseMapping.compactTypeIds();
+        }
+        JacksonaticOptions.Builder options = options();
+        if (typeIds.equals("jackson")) {
+            options.disableTypeIdTables();
+        }
+        ObjectMapper objectMapper = new ObjectMapper();
+        configureMapping(options).on(baseMapping).registerIn(objectMapper);
+
+        values = new ArrayList<>(valueCount);
+        for (int i = 0; i < valueCount; i++) {
+            values.add(types.get(1 + i % subTypeCount).newInstance());
+        }
+        JavaType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, base);
+        writer = objectMapper.writerFor(listType);
+        reader = objectMapper.reader(listType);
+        json = writer.writeValueAsBytes(values);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(values);
+    }
+
+    @Benchmark
+    public List<Object> deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+
+}
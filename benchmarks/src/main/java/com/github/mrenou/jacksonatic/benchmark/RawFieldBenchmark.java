@@ -0,0 +1,102 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.mrenou.jacksonatic.Jacksonatic.configureMapping;
+import static com.github.mrenou.jacksonatic.mapping.ClassMapping.type;
+
+/**
+ * Forwarding of an envelope carrying a large nested blob: the envelope is read then written again. The blob is read as
+ * a tree of maps and lists by Jackson, or kept as raw JSON text by the raw mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RawFieldBenchmark {
+
+    public static class TreeEnvelope {
+
+        public String id;
+
+        public String source;
+
+        public Object payload;
+    }
+
+    public static class RawEnvelope {
+
+        public String id;
+
+        public String source;
+
+        public byte[] payload;
+    }
+
+    @Param({"200"})
+    public int itemCount;
+
+    @Param({"tree", "raw"})
+    public String payloadMapping;
+
+    private ObjectReader reader;
+
+    private ObjectWriter writer;
+
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Class<?> envelopeType;
+        if (payloadMapping.equals("raw")) {
+            configureMapping().on(type(RawEnvelope.class).map("id").map("source").mapRaw("payload")).registerIn(objectMapper);
+            envelopeType = RawEnvelope.class;
+        } else {
+            configureMapping().on(type(TreeEnvelope.class).mapAll()).registerIn(objectMapper);
+            envelopeType = TreeEnvelope.class;
+        }
+        reader = objectMapper.reader(envelopeType);
+        writer = objectMapper.writerFor(envelopeType);
+
+        StringBuilder sb = new StringBuilder("{\"id\":\"order-1\",\"source\":\"shop\",\"payload\":{\"items\":[");
+        for (int i = 0; i < itemCount; i++) {
+            sb.append(i == 0 ? "" : ",")
+                    .append("{\"sku\":\"sku-").append(i)
+                    .append("\",\"quantity\":").append(i % 5 + 1)
+                    .append(",\"price\":").append(i * 1.25)
+                    .append(",\"tags\":[\"a\",\"b\"],\"gift\":").append(i % 3 == 0)
+                    .append('}');
+        }
+        json = sb.append("],\"currency\":\"EUR\"}}").toString().getBytes("UTF-8");
+    }
+
+    @Benchmark
+    public byte[] forward() throws IOException {
+        return writer.writeValueAsBytes(reader.readValue(json));
+    }
+
+}
@@ -0,0 +1,177 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.mrenou.jacksonatic.CompiledJacksonatic;
+import com.github.mrenou.jacksonatic.mapping.ClassMapping;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.mrenou.jacksonatic.Jacksonatic.configureMapping;
+import static com.github.mrenou.jacksonatic.mapping.ClassMapping.type;
+
+/**
+ * Serialization of order lines referencing shared currency and country descriptors, with and without the cached
+ * serialized form of the descriptors.
+ * <p>
+ * The statistics of the caches are printed when the benchmark is torn down.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReferenceDataBenchmark {
+
+    public static class Currency {
+
+        public final String code;
+
+        public final int numericCode;
+
+        public final String name;
+
+        public final String symbol;
+
+        public final int minorUnits;
+
+        public final boolean active;
+
+        public Currency(String code, int numericCode, String name, String symbol, int minorUnits, boolean active) {
+            this.code = code;
+            this.numericCode = numericCode;
+            this.name = name;
+            this.symbol = symbol;
+            this.minorUnits = minorUnits;
+            this.active = active;
+        }
+    }
+
+    public static class Country {
+
+        public final String alpha2;
+
+        public final String alpha3;
+
+        public final String name;
+
+        public final String region;
+
+        public final String callingCode;
+
+        public final Currency currency;
+
+        public Country(String alpha2, String alpha3, String name, String region, String callingCode, Currency currency) {
+            this.alpha2 = alpha2;
+            this.alpha3 = alpha3;
+            this.name = name;
+            this.region = region;
+            this.callingCode = callingCode;
+            this.currency = currency;
+        }
+    }
+
+    public static class OrderLine {
+
+        public final long id;
+
+        public final String sku;
+
+        public final int quantity;
+
+        public final double amount;
+
+        public final Currency currency;
+
+        public final Country shipTo;
+
+        public OrderLine(long id, String sku, int quantity, double amount, Currency currency, Country shipTo) {
+            this.id = id;
+            this.sku = sku;
+            this.quantity = quantity;
+            this.amount = amount;
+            this.currency = currency;
+            this.shipTo = shipTo;
+        }
+    }
+
+    @Param({"1000"})
+    public int lineCount;
+
+    @Param({"none", "serialized"})
+    public String cache;
+
+    private List<OrderLine> lines;
+
+    private ObjectWriter writer;
+
+    private CompiledJacksonatic compiledJacksonatic;
+
+    @Setup
+    public void setUp() {
+        ClassMapping<Currency> currencyMapping = type(Currency.class).mapAll();
+        ClassMapping<Country> countryMapping = type(Country.class).mapAll();
+        if (cache.equals("serialized")) {
+            currencyMapping.cacheSerializedForm();
+            countryMapping.cacheSerializedForm();
+        }
+        compiledJacksonatic = configureMapping()
+                .on(currencyMapping)
+                .on(countryMapping)
+                .on(type(OrderLine.class).mapAll())
+                .compile();
+        ObjectMapper objectMapper = new ObjectMapper();
+        compiledJacksonatic.registerIn(objectMapper);
+
+        List<Currency> currencies = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            currencies.add(new Currency("C" + (char) ('A' + i % 26) + i, 100 + i, "Currency number " + i, "¤" + i, i % 4, i % 7 != 0));
+        }
+        List<Country> countries = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            countries.add(new Country("K" + i, "KK" + i, "Country number " + i, "Region " + i % 5, "+" + (i + 30), currencies.get(i % currencies.size())));
+        }
+        Random random = new Random(42);
+        lines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            lines.add(new OrderLine(i, "sku-" + random.nextInt(10000), 1 + random.nextInt(5), random.nextInt(100000) / 100d,
+                    currencies.get(random.nextInt(currencies.size())), countries.get(random.nextInt(countries.size()))));
+        }
+        JavaType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, OrderLine.class);
+        writer = objectMapper.writerFor(listType);
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.println("Currency cache: " + compiledJacksonatic.getSerializedFormCacheStats(Currency.class));
+        System.out.println("Country cache: " + compiledJacksonatic.getSerializedFormCacheStats(Country.class));
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(lines);
+    }
+
+}
@@ -0,0 +1,141 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mrenou.jacksonatic.CompiledJacksonatic;
+import com.github.mrenou.jacksonatic.Jacksonatic;
+import com.github.mrenou.jacksonatic.benchmark.model.SyntheticModel;
+import com.github.mrenou.jacksonatic.internal.JacksonaticInternal;
+import com.github.mrenou.jacksonatic.internal.introspection.AnnotatedClassConstructor;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.mrenou.jacksonatic.Jacksonatic.configureMapping;
+import static com.github.mrenou.jacksonatic.JacksonaticOptions.options;
+import static com.github.mrenou.jacksonatic.mapping.ClassMapping.type;
+
+/**
+ * Startup cost of a large model, phase by phase:
+ * <ul>
+ * <li>{@link #mapping()} : the {@code on()} calls, merging each new class mapping</li>
+ * <li>{@link #checkTypes()} : the check of mapped fields and methods done by {@code registerIn}</li>
+ * <li>{@link #annotatedClassConstructorCopy()} : the copy of the mapping done each time an
+ * {@link AnnotatedClassConstructor} is built</li>
+ * <li>{@link #registerIn()} : the whole registration in an object mapper</li>
+ * <li>{@link #registerInCompiled()} : the registration of a mapping compiled once, without copy</li>
+ * <li>{@link #compileWithEagerResolution()} : the compilation merging the class mappings of all types on all cores</li>
+ * <li>{@link #firstSerializerBuild()} and {@link #firstDeserializerBuild()} : the first introspection of each type</li>
+ * </ul>
+ * Each iteration works on freshly generated classes and a fresh object mapper. Run with {@code -wi 0 -f 10} to measure
+ * a cold JVM instead of a warmed-up one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class RegistrationBenchmark {
+
+    @Param({"100", "2000"})
+    public int classCount;
+
+    @Param({"1", "5"})
+    public int depth;
+
+    @Param({"10"})
+    public int fieldCount;
+
+    private List<Class<?>> types;
+
+    private JacksonaticInternal jacksonatic;
+
+    private Jacksonatic eagerJacksonatic;
+
+    private CompiledJacksonatic compiledJacksonatic;
+
+    private ObjectMapper registeredObjectMapper;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        types = SyntheticModel.generate(classCount, depth, fieldCount).getTypes();
+        jacksonatic = (JacksonaticInternal) mapping();
+        eagerJacksonatic = mapping(configureMapping(options().eagerResolution(Runtime.getRuntime().availableProcessors())));
+        compiledJacksonatic = jacksonatic.compile();
+        registeredObjectMapper = new ObjectMapper();
+        jacksonatic.registerIn(registeredObjectMapper);
+    }
+
+    @Benchmark
+    public Jacksonatic mapping() {
+        return mapping(configureMapping());
+    }
+
+    private Jacksonatic mapping(Jacksonatic jacksonatic) {
+        for (Class<?> type : types) {
+            jacksonatic.on(type(type).mapAll());
+        }
+        return jacksonatic;
+    }
+
+    @Benchmark
+    public void checkTypes() {
+        jacksonatic.checkTypes();
+    }
+
+    @Benchmark
+    public AnnotatedClassConstructor annotatedClassConstructorCopy() {
+        return new AnnotatedClassConstructor(jacksonatic);
+    }
+
+    @Benchmark
+    public ObjectMapper registerIn() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        jacksonatic.registerIn(objectMapper);
+        return objectMapper;
+    }
+
+    @Benchmark
+    public ObjectMapper registerInCompiled() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        compiledJacksonatic.registerIn(objectMapper);
+        return objectMapper;
+    }
+
+    @Benchmark
+    public CompiledJacksonatic compileWithEagerResolution() {
+        return eagerJacksonatic.compile();
+    }
+
+    @Benchmark
+    public void firstSerializerBuild(Blackhole blackhole) {
+        for (Class<?> type : types) {
+            blackhole.consume(registeredObjectMapper.canSerialize(type));
+        }
+    }
+
+    @Benchmark
+    public void firstDeserializerBuild(Blackhole blackhole) {
+        for (Class<?> type : types) {
+            blackhole.consume(registeredObjectMapper.canDeserialize(registeredObjectMapper.constructType(type)));
+        }
+    }
+
+}
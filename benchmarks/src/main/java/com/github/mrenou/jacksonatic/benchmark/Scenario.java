@@ -0,0 +1,140 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.benchmark;
+
+import com.github.mrenou.jacksonatic.Jacksonatic;
+import com.github.mrenou.jacksonatic.benchmark.model.AnnotatedModel;
+import com.github.mrenou.jacksonatic.benchmark.model.PlainModel;
+
+import java.util.Arrays;
+
+import static com.github.mrenou.jacksonatic.mapping.ClassMapping.type;
+
+/**
+ * Mapping feature measured by a benchmark, with the same values for the plain and the annotated model
+ */
+public enum Scenario {
+
+    FIELDS {
+        @Override
+        public Object plainValue() {
+            return new PlainModel.FieldPojo("name", 42, 1444000000000L, 0.75, true, "a short description");
+        }
+
+        @Override
+        public Object annotatedValue() {
+            return new AnnotatedModel.FieldPojo("name", 42, 1444000000000L, 0.75, true, "a short description");
+        }
+
+        @Override
+        public Jacksonatic map(Jacksonatic jacksonatic) {
+            return jacksonatic.on(type(PlainModel.FieldPojo.class).mapAll());
+        }
+    },
+
+    GETTERS_SETTERS {
+        @Override
+        public Object plainValue() {
+            return new PlainModel.BeanPojo("name", 42, 1444000000000L, 0.75);
+        }
+
+        @Override
+        public Object annotatedValue() {
+            return new AnnotatedModel.BeanPojo("name", 42, 1444000000000L, 0.75);
+        }
+
+        @Override
+        public Jacksonatic map(Jacksonatic jacksonatic) {
+            return jacksonatic.on(type(PlainModel.BeanPojo.class)
+                    .mapGetter("name").mapSetter("name")
+                    .mapGetter("count").mapSetter("count")
+                    .mapGetter("timestamp").mapSetter("timestamp")
+                    .mapGetter("ratio").mapSetter("ratio"));
+        }
+    },
+
+    CONSTRUCTOR {
+        @Override
+        public Object plainValue() {
+            return new PlainModel.ConstructorPojo("name", 42, 1444000000000L, 0.75);
+        }
+
+        @Override
+        public Object annotatedValue() {
+            return new AnnotatedModel.ConstructorPojo("name", 42, 1444000000000L, 0.75);
+        }
+
+        @Override
+        public Jacksonatic map(Jacksonatic jacksonatic) {
+            return jacksonatic.on(type(PlainModel.ConstructorPojo.class).mapAll().withAConstructorOrStaticFactory());
+        }
+    },
+
+    STATIC_FACTORY {
+        @Override
+        public Object plainValue() {
+            return PlainModel.FactoryPojo.of("name", 42, 1444000000000L, 0.75);
+        }
+
+        @Override
+        public Object annotatedValue() {
+            return AnnotatedModel.FactoryPojo.of("name", 42, 1444000000000L, 0.75);
+        }
+
+        @Override
+        public Jacksonatic map(Jacksonatic jacksonatic) {
+            return jacksonatic.on(type(PlainModel.FactoryPojo.class).mapAll().withAConstructorOrStaticFactory());
+        }
+    },
+
+    POLYMORPHISM {
+        @Override
+        public Object plainValue() {
+            return new PlainModel.Drawing("drawing", Arrays.asList(
+                    new PlainModel.Circle("red", 1.5),
+                    new PlainModel.Rectangle("blue", 2, 3),
+                    new PlainModel.Circle("green", 4)));
+        }
+
+        @Override
+        public Object annotatedValue() {
+            return new AnnotatedModel.Drawing("drawing", Arrays.asList(
+                    new AnnotatedModel.Circle("red", 1.5),
+                    new AnnotatedModel.Rectangle("blue", 2, 3),
+                    new AnnotatedModel.Circle("green", 4)));
+        }
+
+        @Override
+        public Jacksonatic map(Jacksonatic jacksonatic) {
+            return jacksonatic
+                    .on(type(PlainModel.Shape.class)
+                            .mapAll()
+                            .fieldForTypeName("type")
+                            .addNamedSubType(PlainModel.Circle.class, "circle")
+                            .addNamedSubType(PlainModel.Rectangle.class, "rectangle"))
+                    .on(type(PlainModel.Circle.class).mapAll())
+                    .on(type(PlainModel.Rectangle.class).mapAll())
+                    .on(type(PlainModel.Drawing.class).mapAll());
+        }
+    };
+
+    public abstract Object plainValue();
+
+    public abstract Object annotatedValue();
+
+    public abstract Jacksonatic map(Jacksonatic jacksonatic);
+
+}
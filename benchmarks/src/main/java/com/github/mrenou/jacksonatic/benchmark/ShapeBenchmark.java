@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.mrenou.jacksonatic.benchmark.model.PlainModel.FieldPojo;
+import com.github.mrenou.jacksonatic.mapping.ClassMapping;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.mrenou.jacksonatic.Jacksonatic.configureMapping;
+import static com.github.mrenou.jacksonatic.mapping.ClassMapping.type;
+
+/**
+ * Serialization and deserialization of a list of small mapped values written as objects and as positional arrays.
+ * <p>
+ * The size of the payload is printed when the benchmark is set up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShapeBenchmark {
+
+    @Param({"1000"})
+    public int valueCount;
+
+    @Param({"object", "array"})
+    public String shape;
+
+    private List<FieldPojo> values;
+
+    private ObjectWriter writer;
+
+    private ObjectReader reader;
+
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        ClassMapping<FieldPojo> mapping = type(FieldPojo.class).mapAll();
+        if (shape.equals("array")) {
+            mapping.asArray();
+        }
+        ObjectMapper objectMapper = new ObjectMapper();
+        configureMapping().on(mapping).registerIn(objectMapper);
+
+        values = new ArrayList<>(valueCount);
+        for (int i = 0; i < valueCount; i++) {
+            values.add(new FieldPojo("name" + i, i, 1460000000000L + i, i / 7d, i % 2 == 0, "description " + i));
+        }
+        JavaType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, FieldPojo.class);
+        writer = objectMapper.writerFor(listType);
+        reader = objectMapper.reader(listType);
+        json = writer.writeValueAsBytes(values);
+        System.out.println("Payload of " + valueCount + " values as " + shape + ": " + json.length + " bytes");
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(values);
+    }
+
+    @Benchmark
+    public List<FieldPojo> deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+
+}
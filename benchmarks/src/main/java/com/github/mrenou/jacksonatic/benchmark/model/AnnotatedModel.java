@@ -0,0 +1,247 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.benchmark.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+import java.util.List;
+
+/**
+ * Same benchmark model than {@link PlainModel}, mapped with native jackson annotations
+ */
+public class AnnotatedModel {
+
+    public static class FieldPojo {
+
+        @JsonProperty
+        private String name;
+
+        @JsonProperty
+        private int count;
+
+        @JsonProperty
+        private long timestamp;
+
+        @JsonProperty
+        private double ratio;
+
+        @JsonProperty
+        private boolean active;
+
+        @JsonProperty
+        private String description;
+
+        public FieldPojo() {
+        }
+
+        public FieldPojo(String name, int count, long timestamp, double ratio, boolean active, String description) {
+            this.name = name;
+            this.count = count;
+            this.timestamp = timestamp;
+            this.ratio = ratio;
+            this.active = active;
+            this.description = description;
+        }
+    }
+
+    public static class BeanPojo {
+
+        private String name;
+
+        private int count;
+
+        private long timestamp;
+
+        private double ratio;
+
+        public BeanPojo() {
+        }
+
+        public BeanPojo(String name, int count, long timestamp, double ratio) {
+            this.name = name;
+            this.count = count;
+            this.timestamp = timestamp;
+            this.ratio = ratio;
+        }
+
+        @JsonProperty
+        public String getName() {
+            return name;
+        }
+
+        @JsonProperty
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        @JsonProperty
+        public int getCount() {
+            return count;
+        }
+
+        @JsonProperty
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        @JsonProperty
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        @JsonProperty
+        public void setTimestamp(long timestamp) {
+            this.timestamp = timestamp;
+        }
+
+        @JsonProperty
+        public double getRatio() {
+            return ratio;
+        }
+
+        @JsonProperty
+        public void setRatio(double ratio) {
+            this.ratio = ratio;
+        }
+    }
+
+    public static class ConstructorPojo {
+
+        @JsonProperty
+        private final String name;
+
+        @JsonProperty
+        private final int count;
+
+        @JsonProperty
+        private final long timestamp;
+
+        @JsonProperty
+        private final double ratio;
+
+        @JsonCreator
+        public ConstructorPojo(@JsonProperty("name") String name,
+                               @JsonProperty("count") int count,
+                               @JsonProperty("timestamp") long timestamp,
+                               @JsonProperty("ratio") double ratio) {
+            this.name = name;
+            this.count = count;
+            this.timestamp = timestamp;
+            this.ratio = ratio;
+        }
+    }
+
+    public static class FactoryPojo {
+
+        @JsonProperty
+        private final String name;
+
+        @JsonProperty
+        private final int count;
+
+        @JsonProperty
+        private final long timestamp;
+
+        @JsonProperty
+        private final double ratio;
+
+        private FactoryPojo(String name, int count, long timestamp, double ratio) {
+            this.name = name;
+            this.count = count;
+            this.timestamp = timestamp;
+            this.ratio = ratio;
+        }
+
+        @JsonCreator
+        public static FactoryPojo of(@JsonProperty("name") String name,
+                                     @JsonProperty("count") int count,
+                                     @JsonProperty("timestamp") long timestamp,
+                                     @JsonProperty("ratio") double ratio) {
+            return new FactoryPojo(name, count, timestamp, ratio);
+        }
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+    @JsonSubTypes({
+            @JsonSubTypes.Type(value = Circle.class, name = "circle"),
+            @JsonSubTypes.Type(value = Rectangle.class, name = "rectangle")
+    })
+    public static abstract class Shape {
+
+        @JsonProperty
+        private String color;
+
+        protected Shape() {
+        }
+
+        protected Shape(String color) {
+            this.color = color;
+        }
+    }
+
+    public static class Circle extends Shape {
+
+        @JsonProperty
+        private double radius;
+
+        public Circle() {
+        }
+
+        public Circle(String color, double radius) {
+            super(color);
+            this.radius = radius;
+        }
+    }
+
+    public static class Rectangle extends Shape {
+
+        @JsonProperty
+        private double width;
+
+        @JsonProperty
+        private double height;
+
+        public Rectangle() {
+        }
+
+        public Rectangle(String color, double width, double height) {
+            super(color);
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    public static class Drawing {
+
+        @JsonProperty
+        private String name;
+
+        @JsonProperty
+        private List<Shape> shapes;
+
+        public Drawing() {
+        }
+
+        public Drawing(String name, List<Shape> shapes) {
+            this.name = name;
+            this.shapes = shapes;
+        }
+    }
+
+}
@@ -0,0 +1,170 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.benchmark.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.List;
+
+/**
+ * Jackson mix-ins mapping {@link PlainModel} like jacksonatic does
+ */
+public class MixInModel {
+
+    public static void registerIn(ObjectMapper objectMapper) {
+        objectMapper.addMixIn(PlainModel.FieldPojo.class, FieldPojoMixIn.class);
+        objectMapper.addMixIn(PlainModel.BeanPojo.class, BeanPojoMixIn.class);
+        objectMapper.addMixIn(PlainModel.ConstructorPojo.class, ConstructorPojoMixIn.class);
+        objectMapper.addMixIn(PlainModel.FactoryPojo.class, FactoryPojoMixIn.class);
+        objectMapper.addMixIn(PlainModel.Shape.class, ShapeMixIn.class);
+        objectMapper.addMixIn(PlainModel.Circle.class, CircleMixIn.class);
+        objectMapper.addMixIn(PlainModel.Rectangle.class, RectangleMixIn.class);
+        objectMapper.addMixIn(PlainModel.Drawing.class, DrawingMixIn.class);
+    }
+
+    static abstract class FieldPojoMixIn {
+
+        @JsonProperty
+        private String name;
+
+        @JsonProperty
+        private int count;
+
+        @JsonProperty
+        private long timestamp;
+
+        @JsonProperty
+        private double ratio;
+
+        @JsonProperty
+        private boolean active;
+
+        @JsonProperty
+        private String description;
+    }
+
+    static abstract class BeanPojoMixIn {
+
+        @JsonProperty
+        abstract String getName();
+
+        @JsonProperty
+        abstract void setName(String name);
+
+        @JsonProperty
+        abstract int getCount();
+
+        @JsonProperty
+        abstract void setCount(int count);
+
+        @JsonProperty
+        abstract long getTimestamp();
+
+        @JsonProperty
+        abstract void setTimestamp(long timestamp);
+
+        @JsonProperty
+        abstract double getRatio();
+
+        @JsonProperty
+        abstract void setRatio(double ratio);
+    }
+
+    static abstract class ConstructorPojoMixIn {
+
+        @JsonProperty
+        private String name;
+
+        @JsonProperty
+        private int count;
+
+        @JsonProperty
+        private long timestamp;
+
+        @JsonProperty
+        private double ratio;
+
+        @JsonCreator
+        ConstructorPojoMixIn(@JsonProperty("name") String name,
+                             @JsonProperty("count") int count,
+                             @JsonProperty("timestamp") long timestamp,
+                             @JsonProperty("ratio") double ratio) {
+        }
+    }
+
+    static abstract class FactoryPojoMixIn {
+
+        @JsonProperty
+        private String name;
+
+        @JsonProperty
+        private int count;
+
+        @JsonProperty
+        private long timestamp;
+
+        @JsonProperty
+        private double ratio;
+
+        @JsonCreator
+        static PlainModel.FactoryPojo of(@JsonProperty("name") String name,
+                                         @JsonProperty("count") int count,
+                                         @JsonProperty("timestamp") long timestamp,
+                                         @JsonProperty("ratio") double ratio) {
+            return null;
+        }
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+    @JsonSubTypes({
+            @JsonSubTypes.Type(value = PlainModel.Circle.class, name = "circle"),
+            @JsonSubTypes.Type(value = PlainModel.Rectangle.class, name = "rectangle")
+    })
+    static abstract class ShapeMixIn {
+
+        @JsonProperty
+        private String color;
+    }
+
+    static abstract class CircleMixIn {
+
+        @JsonProperty
+        private double radius;
+    }
+
+    static abstract class RectangleMixIn {
+
+        @JsonProperty
+        private double width;
+
+        @JsonProperty
+        private double height;
+    }
+
+    static abstract class DrawingMixIn {
+
+        @JsonProperty
+        private String name;
+
+        @JsonProperty
+        private List<PlainModel.Shape> shapes;
+    }
+
+}
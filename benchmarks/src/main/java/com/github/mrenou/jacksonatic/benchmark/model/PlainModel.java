@@ -0,0 +1,235 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.benchmark.model;
+
+import java.util.List;
+
+/**
+ * Benchmark model without any jackson annotation, mapped with jacksonatic or with mix-ins
+ */
+public class PlainModel {
+
+    public static class FieldPojo {
+
+        private String name;
+
+        private int count;
+
+        private long timestamp;
+
+        private double ratio;
+
+        private boolean active;
+
+        private String description;
+
+        public FieldPojo() {
+        }
+
+        public FieldPojo(String name, int count, long timestamp, double ratio, boolean active, String description) {
+            this.name = name;
+            this.count = count;
+            this.timestamp = timestamp;
+            this.ratio = ratio;
+            this.active = active;
+            this.description = description;
+        }
+    }
+
+    public static class BeanPojo {
+
+        private String name;
+
+        private int count;
+
+        private long timestamp;
+
+        private double ratio;
+
+        public BeanPojo() {
+        }
+
+        public BeanPojo(String name, int count, long timestamp, double ratio) {
+            this.name = name;
+            this.count = count;
+            this.timestamp = timestamp;
+            this.ratio = ratio;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public void setTimestamp(long timestamp) {
+            this.timestamp = timestamp;
+        }
+
+        public double getRatio() {
+            return ratio;
+        }
+
+        public void setRatio(double ratio) {
+            this.ratio = ratio;
+        }
+    }
+
+    public static class ConstructorPojo {
+
+        private final String name;
+
+        private final int count;
+
+        private final long timestamp;
+
+        private final double ratio;
+
+        public ConstructorPojo(String name, int count, long timestamp, double ratio) {
+            this.name = name;
+            this.count = count;
+            this.timestamp = timestamp;
+            this.ratio = ratio;
+        }
+    }
+
+    /**
+     * Constructor parameters declared after the other fields, so that they are written last by default
+     */
+    public static class PartialConstructorPojo {
+
+        private int count;
+
+        private long timestamp;
+
+        private double ratio;
+
+        private boolean active;
+
+        private String description;
+
+        private final String id;
+
+        private final String name;
+
+        public PartialConstructorPojo(String id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        public PartialConstructorPojo(String id, String name, int count, long timestamp, double ratio, boolean active, String description) {
+            this(id, name);
+            this.count = count;
+            this.timestamp = timestamp;
+            this.ratio = ratio;
+            this.active = active;
+            this.description = description;
+        }
+    }
+
+    public static class FactoryPojo {
+
+        private final String name;
+
+        private final int count;
+
+        private final long timestamp;
+
+        private final double ratio;
+
+        private FactoryPojo(String name, int count, long timestamp, double ratio) {
+            this.name = name;
+            this.count = count;
+            this.timestamp = timestamp;
+            this.ratio = ratio;
+        }
+
+        public static FactoryPojo of(String name, int count, long timestamp, double ratio) {
+            return new FactoryPojo(name, count, timestamp, ratio);
+        }
+    }
+
+    public static abstract class Shape {
+
+        private String color;
+
+        protected Shape() {
+        }
+
+        protected Shape(String color) {
+            this.color = color;
+        }
+    }
+
+    public static class Circle extends Shape {
+
+        private double radius;
+
+        public Circle() {
+        }
+
+        public Circle(String color, double radius) {
+            super(color);
+            this.radius = radius;
+        }
+    }
+
+    public static class Rectangle extends Shape {
+
+        private double width;
+
+        private double height;
+
+        public Rectangle() {
+        }
+
+        public Rectangle(String color, double width, double height) {
+            super(color);
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    public static class Drawing {
+
+        private String name;
+
+        private List<Shape> shapes;
+
+        public Drawing() {
+        }
+
+        public Drawing(String name, List<Shape> shapes) {
+            this.name = name;
+            this.shapes = shapes;
+        }
+    }
+
+}
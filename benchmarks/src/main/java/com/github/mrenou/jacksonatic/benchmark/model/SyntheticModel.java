@@ -0,0 +1,116 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.benchmark.model;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.FieldAccessor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates plain classes at runtime to simulate a large model.
+ * <p>
+ * Classes are organized in hierarchies of {@code depth} levels, each class declaring {@code fieldCount} private fields
+ * of mixed types and a public no-arg constructor. Each generation defines new classes in new class loaders, so nothing
+ * about them is already cached by the JVM or by Jackson.
+ */
+public class SyntheticModel {
+
+    private static final Class<?>[] FIELD_TYPES = {String.class, int.class, long.class, double.class, boolean.class};
+
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+
+    private final List<Class<?>> types;
+
+    private SyntheticModel(List<Class<?>> types) {
+        this.types = types;
+    }
+
+    /**
+     * @param classCount total number of generated classes
+     * @param depth      number of classes in each hierarchy, the root included
+     * @param fieldCount number of fields declared by each class
+     */
+    public static SyntheticModel generate(int classCount, int depth, int fieldCount) {
+        String packageName = SyntheticModel.class.getPackage().getName() + ".synthetic" + GENERATION.incrementAndGet();
+        ByteBuddy byteBuddy = new ByteBuddy();
+        List<Class<?>> types = new ArrayList<>(classCount);
+        Class<?> parent = Object.class;
+        for (int i = 0; i < classCount; i++) {
+            if (i % depth == 0) {
+                parent = Object.class;
+            }
+            DynamicType.Builder<?> builder = byteBuddy.subclass(parent).name(packageName + ".Type" + i);
+            for (int f = 0; f < fieldCount; f++) {
+                builder = builder.defineField("field" + i + "_" + f, FIELD_TYPES[f % FIELD_TYPES.length], Visibility.PRIVATE);
+            }
+            ClassLoader parentClassLoader = parent == Object.class ? SyntheticModel.class.getClassLoader() : parent.getClassLoader();
+            Class<?> type = builder.make().load(parentClassLoader, ClassLoadingStrategy.Default.WRAPPER).getLoaded();
+            types.add(type);
+            parent = type;
+        }
+        return new SyntheticModel(types);
+    }
+
+    /**
+     * Generates a class declaring {@code propertyCount} private fields, each one with a public getter and a public
+     * setter, like a generated DTO.
+     */
+    public static Class<?> generateWithAccessors(int propertyCount) {
+        String name = SyntheticModel.class.getPackage().getName() + ".synthetic" + GENERATION.incrementAndGet() + ".Dto";
+        DynamicType.Builder<?> builder = new ByteBuddy().subclass(Object.class).name(name);
+        for (int p = 0; p < propertyCount; p++) {
+            String fieldName = "property" + p;
+            Class<?> fieldType = FIELD_TYPES[p % FIELD_TYPES.length];
+            builder = builder.defineField(fieldName, fieldType, Visibility.PRIVATE)
+                    .defineMethod("getProperty" + p, fieldType, Visibility.PUBLIC)
+                    .intercept(FieldAccessor.ofField(fieldName))
+                    .defineMethod("setProperty" + p, void.class, Visibility.PUBLIC)
+                    .withParameters(fieldType)
+                    .intercept(FieldAccessor.ofField(fieldName));
+        }
+        return builder.make().load(SyntheticModel.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded();
+    }
+
+    /**
+     * Generates a base class declaring one field, followed by {@code subTypeCount} direct sub classes declaring one
+     * field each.
+     */
+    public static SyntheticModel generateHierarchy(int subTypeCount) {
+        String packageName = SyntheticModel.class.getPackage().getName() + ".synthetic" + GENERATION.incrementAndGet();
+        ByteBuddy byteBuddy = new ByteBuddy();
+        List<Class<?>> types = new ArrayList<>(subTypeCount + 1);
+        Class<?> base = byteBuddy.subclass(Object.class).name(packageName + ".Base")
+                .defineField("id", long.class, Visibility.PRIVATE)
+                .make().load(SyntheticModel.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded();
+        types.add(base);
+        for (int i = 0; i < subTypeCount; i++) {
+            types.add(byteBuddy.subclass(base).name(packageName + ".SubType" + i)
+                    .defineField("field" + i, FIELD_TYPES[i % FIELD_TYPES.length], Visibility.PRIVATE)
+                    .make().load(base.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded());
+        }
+        return new SyntheticModel(types);
+    }
+
+    public List<Class<?>> getTypes() {
+        return types;
+    }
+}
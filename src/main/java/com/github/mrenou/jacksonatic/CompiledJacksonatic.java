@@ -0,0 +1,68 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Immutable snapshot of a mapping configuration, built by {@link Jacksonatic#compile()}.
+ * <p>
+ * A snapshot can be registered in many {@link com.fasterxml.jackson.databind.ObjectMapper} from any thread. The class
+ * mappings are not copied for each registration, so the object mappers share the merged class mappings and the
+ * decorated classes.
+ */
+public interface CompiledJacksonatic {
+
+    /**
+     * register the mapping snapshot in a {@link com.fasterxml.jackson.databind.ObjectMapper}
+     *
+     * @param objectMapper object mapper to use
+     */
+    void registerIn(ObjectMapper objectMapper);
+
+    /**
+     * build the serializer and the deserializer of each mapped type, and of each named sub type, in an object mapper
+     * the snapshot is registered in, so the first calls don't pay for their construction
+     *
+     * @param objectMapper object mapper to warm up
+     * @param executor executor running the construction of each type
+     * @return time spent for each type
+     */
+    WarmUpReport warmUp(ObjectMapper objectMapper, Executor executor);
+
+    /**
+     * statistics of the cached serialized forms of a type mapped with
+     * {@link com.github.mrenou.jacksonatic.mapping.ClassMapping#cacheSerializedForm()}, summed over the object mappers
+     * the snapshot is registered in
+     *
+     * @param type mapped type
+     * @return hits, misses and size of the caches of the type
+     */
+    SerializedFormCacheStats getSerializedFormCacheStats(Class<?> type);
+
+    /**
+     * number of objects of a polymorphic type mapped with
+     * {@link com.github.mrenou.jacksonatic.mapping.ClassMapping#typeIdFirst()} read without their type id as first
+     * property, summed over the object mappers the snapshot is registered in
+     *
+     * @param baseType mapped base type
+     * @return number of objects buffered to find their type id
+     */
+    long getTypeIdNotFirstCount(Class<?> baseType);
+
+}
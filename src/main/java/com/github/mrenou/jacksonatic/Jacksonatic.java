@@ -20,6 +20,8 @@ import com.github.mrenou.jacksonatic.internal.JacksonaticInternal;
 import com.github.mrenou.jacksonatic.internal.util.Copyable;
 import com.github.mrenou.jacksonatic.mapping.ClassMapping;
 
+import java.util.concurrent.Executor;
+
 import static com.github.mrenou.jacksonatic.JacksonaticOptions.options;
 
 /**
@@ -62,4 +64,22 @@ public interface Jacksonatic extends Copyable<Jacksonatic> {
      */
     void registerIn(ObjectMapper objectMapper);
 
+    /**
+     * build an immutable snapshot of the mapping configuration, to register in several object mappers without copying
+     * the configuration for each of them. Class mappings added afterwards are not part of the snapshot.
+     *
+     * @return the mapping snapshot
+     */
+    CompiledJacksonatic compile();
+
+    /**
+     * build the serializer and the deserializer of each mapped type, and of each named sub type, in an object mapper
+     * the mapping is registered in, so the first calls don't pay for their construction
+     *
+     * @param objectMapper object mapper to warm up
+     * @param executor executor running the construction of each type
+     * @return time spent for each type
+     */
+    WarmUpReport warmUp(ObjectMapper objectMapper, Executor executor);
+
 }
\ No newline at end of file
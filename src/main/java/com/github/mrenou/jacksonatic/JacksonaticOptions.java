@@ -22,6 +22,20 @@ public class JacksonaticOptions {
 
     private boolean typeChecking = true;
 
+    private int annotatedClassCacheSize = 2000;
+
+    private boolean compileToMixIns = false;
+
+    private boolean directFieldAccess = false;
+
+    private boolean directCreatorInvocation = false;
+
+    private int eagerResolutionParallelism = 0;
+
+    private boolean typeIdTables = true;
+
+    private int serializedFormCacheSize = 1000;
+
     public static Builder options() {
         return new Builder();
     }
@@ -30,6 +44,38 @@ public class JacksonaticOptions {
         return typeChecking;
     }
 
+    public int annotatedClassCacheSize() {
+        return annotatedClassCacheSize;
+    }
+
+    public boolean compileToMixIns() {
+        return compileToMixIns;
+    }
+
+    public boolean directFieldAccess() {
+        return directFieldAccess;
+    }
+
+    public boolean directCreatorInvocation() {
+        return directCreatorInvocation;
+    }
+
+    public boolean eagerResolution() {
+        return eagerResolutionParallelism > 0;
+    }
+
+    public int eagerResolutionParallelism() {
+        return eagerResolutionParallelism;
+    }
+
+    public boolean typeIdTables() {
+        return typeIdTables;
+    }
+
+    public int serializedFormCacheSize() {
+        return serializedFormCacheSize;
+    }
+
     public static class Builder {
 
         private JacksonaticOptions jacksonaticOptions = new JacksonaticOptions();
@@ -39,6 +85,69 @@ public class JacksonaticOptions {
             return this;
         }
 
+        /**
+         * Maximum number of decorated classes kept by a mapping snapshot, shared by the object mappers it is registered
+         * in. The cache is cleared when full.
+         */
+        public Builder annotatedClassCacheSize(int annotatedClassCacheSize) {
+            jacksonaticOptions.annotatedClassCacheSize = annotatedClassCacheSize;
+            return this;
+        }
+
+        /**
+         * Register generated mix-in classes instead of replacing the class introspector of the object mapper.
+         * Mappings defined only for serialization or deserialization cannot be compiled.
+         */
+        public Builder compileToMixIns() {
+            jacksonaticOptions.compileToMixIns = true;
+            return this;
+        }
+
+        /**
+         * Read and write mapped fields with method handles instead of reflection. Unmapped and ignored fields are
+         * left to Jackson.
+         */
+        public Builder directFieldAccess() {
+            jacksonaticOptions.directFieldAccess = true;
+            return this;
+        }
+
+        /**
+         * Call the constructor or the static factory mapped on a class with a method handle instead of reflection.
+         */
+        public Builder directCreatorInvocation() {
+            jacksonaticOptions.directCreatorInvocation = true;
+            return this;
+        }
+
+        /**
+         * Merge the class mappings of every mapped class with the ones of its super types when the mapping is compiled or
+         * registered, instead of the first time Jackson introspects the class. The classes are split between the
+         * given number of threads.
+         */
+        public Builder eagerResolution(int parallelism) {
+            jacksonaticOptions.eagerResolutionParallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Let Jackson resolve the type ids of mapped polymorphic types, instead of a table of ids built once for each
+         * type.
+         */
+        public Builder disableTypeIdTables() {
+            jacksonaticOptions.typeIdTables = false;
+            return this;
+        }
+
+        /**
+         * Maximum number of instances whose JSON is kept for each type mapped with a cached serialized form, in each
+         * object mapper. The cache is cleared when full.
+         */
+        public Builder serializedFormCacheSize(int serializedFormCacheSize) {
+            jacksonaticOptions.serializedFormCacheSize = serializedFormCacheSize;
+            return this;
+        }
+
         public JacksonaticOptions build() {
             return jacksonaticOptions;
         }
@@ -0,0 +1,70 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic;
+
+/**
+ * Use of the cached serialized forms of a type mapped with
+ * {@link com.github.mrenou.jacksonatic.mapping.ClassMapping#cacheSerializedForm()}, see
+ * {@link CompiledJacksonatic#getSerializedFormCacheStats(Class)}.
+ */
+public class SerializedFormCacheStats {
+
+    private final long hits;
+
+    private final long misses;
+
+    private final int size;
+
+    public SerializedFormCacheStats(long hits, long misses, int size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.size = size;
+    }
+
+    /**
+     * @return number of instances written from their cached form
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return number of instances serialized then cached
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return number of serialized forms currently cached
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return part of the instances written from their cached form, 0 if no instance was written
+     */
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d hits, %d misses (hit rate %.1f%%), %d cached forms", hits, misses, getHitRate() * 100, size);
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Result of a warm-up of the serializers and deserializers of mapped types, see
+ * {@link Jacksonatic#warmUp(com.fasterxml.jackson.databind.ObjectMapper, java.util.concurrent.Executor)}.
+ */
+public class WarmUpReport {
+
+    private final Map<Class<?>, Duration> durations;
+
+    private final Map<Class<?>, Throwable> failures;
+
+    private final Duration totalDuration;
+
+    public WarmUpReport(Map<Class<?>, Duration> durations, Map<Class<?>, Throwable> failures, Duration totalDuration) {
+        this.durations = Collections.unmodifiableMap(new LinkedHashMap<>(durations));
+        this.failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+        this.totalDuration = totalDuration;
+    }
+
+    /**
+     * @return time spent to build the serializer and the deserializer of each type
+     */
+    public Map<Class<?>, Duration> getDurations() {
+        return durations;
+    }
+
+    /**
+     * @return cause of the failure of each type whose serializer or deserializer cannot be built
+     */
+    public Map<Class<?>, Throwable> getFailures() {
+        return failures;
+    }
+
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * @return wall clock time of the whole warm-up
+     */
+    public Duration getTotalDuration() {
+        return totalDuration;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Warm-up of ").append(durations.size()).append(" types in ").append(totalDuration.toMillis()).append(" ms");
+        durations.forEach((type, duration) -> sb.append("\n> ").append(type.getName()).append(" : ").append(duration.toNanos() / 1000).append(" us")
+                .append(failures.containsKey(type) ? " (failed: " + failures.get(type) + ")" : ""));
+        return sb.toString();
+    }
+}
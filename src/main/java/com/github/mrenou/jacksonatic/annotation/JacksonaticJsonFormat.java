@@ -0,0 +1,104 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.annotation;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.lang.annotation.Annotation;
+
+public class JacksonaticJsonFormat implements JsonFormat, JacksonaticAnnotation {
+
+    private String pattern = "";
+
+    private Shape shape = Shape.ANY;
+
+    private String locale = DEFAULT_LOCALE;
+
+    private String timezone = DEFAULT_TIMEZONE;
+
+    private JacksonaticJsonFormat() {
+
+    }
+
+    @Override
+    public String pattern() {
+        return pattern;
+    }
+
+    @Override
+    public Shape shape() {
+        return shape;
+    }
+
+    @Override
+    public String locale() {
+        return locale;
+    }
+
+    @Override
+    public String timezone() {
+        return timezone;
+    }
+
+    @Override
+    public Class<? extends Annotation> annotationType() {
+        return JsonFormat.class;
+    }
+
+    public static Builder jsonFormat() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return "@JsonFormat{" +
+                "pattern='" + pattern + '\'' +
+                ", shape=" + shape +
+                ", locale='" + locale + '\'' +
+                ", timezone='" + timezone + '\'' +
+                '}';
+    }
+
+    public static class Builder implements AnnotationBuilder {
+
+        private JacksonaticJsonFormat jsonFormat = new JacksonaticJsonFormat();
+
+        public Builder pattern(String pattern) {
+            jsonFormat.pattern = pattern;
+            return this;
+        }
+
+        public Builder shape(Shape shape) {
+            jsonFormat.shape = shape;
+            return this;
+        }
+
+        public Builder locale(String locale) {
+            jsonFormat.locale = locale;
+            return this;
+        }
+
+        public Builder timezone(String timezone) {
+            jsonFormat.timezone = timezone;
+            return this;
+        }
+
+        @Override
+        public JsonFormat build() {
+            return jsonFormat;
+        }
+    }
+}
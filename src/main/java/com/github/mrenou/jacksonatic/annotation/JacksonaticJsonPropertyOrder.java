@@ -0,0 +1,83 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.annotation;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+
+public class JacksonaticJsonPropertyOrder implements JsonPropertyOrder, JacksonaticAnnotation {
+
+    private String[] value = new String[0];
+
+    private boolean alphabetic = false;
+
+    private JacksonaticJsonPropertyOrder() {
+
+    }
+
+    @Override
+    public String[] value() {
+        return value;
+    }
+
+    @Override
+    public boolean alphabetic() {
+        return alphabetic;
+    }
+
+    @Override
+    public Class<? extends Annotation> annotationType() {
+        return JsonPropertyOrder.class;
+    }
+
+    @Override
+    public String toString() {
+        return "@JsonPropertyOrder{" +
+                "value=" + Arrays.toString(value) +
+                ", alphabetic=" + alphabetic +
+                '}';
+    }
+
+    public static Builder jsonPropertyOrder() {
+        return new Builder();
+    }
+
+    public static Builder jsonPropertyOrder(String... value) {
+        return new Builder().value(value);
+    }
+
+    public static class Builder implements AnnotationBuilder {
+
+        private JacksonaticJsonPropertyOrder jsonPropertyOrder = new JacksonaticJsonPropertyOrder();
+
+        public Builder value(String[] value) {
+            jsonPropertyOrder.value = value;
+            return this;
+        }
+
+        public Builder alphabetic(boolean alphabetic) {
+            jsonPropertyOrder.alphabetic = alphabetic;
+            return this;
+        }
+
+        @Override
+        public JsonPropertyOrder build() {
+            return jsonPropertyOrder;
+        }
+    }
+}
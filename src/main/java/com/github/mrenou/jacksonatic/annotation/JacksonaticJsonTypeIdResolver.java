@@ -0,0 +1,65 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.annotation;
+
+import com.fasterxml.jackson.databind.annotation.JsonTypeIdResolver;
+import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
+
+import java.lang.annotation.Annotation;
+
+public class JacksonaticJsonTypeIdResolver implements JsonTypeIdResolver, JacksonaticAnnotation {
+
+    private Class<? extends TypeIdResolver> value;
+
+    private JacksonaticJsonTypeIdResolver() {
+    }
+
+    @Override
+    public Class<? extends Annotation> annotationType() {
+        return JsonTypeIdResolver.class;
+    }
+
+    @Override
+    public Class<? extends TypeIdResolver> value() {
+        return value;
+    }
+
+    public static Builder jsonTypeIdResolver(Class<? extends TypeIdResolver> value) {
+        return new Builder().value(value);
+    }
+
+    @Override
+    public String toString() {
+        return "@JsonTypeIdResolver{" +
+                "value=" + value +
+                '}';
+    }
+
+    public static class Builder implements AnnotationBuilder {
+
+        private JacksonaticJsonTypeIdResolver jsonTypeIdResolver = new JacksonaticJsonTypeIdResolver();
+
+        public Builder value(Class<? extends TypeIdResolver> value) {
+            jsonTypeIdResolver.value = value;
+            return this;
+        }
+
+        @Override
+        public JsonTypeIdResolver build() {
+            return jsonTypeIdResolver;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.annotation;
+
+import com.fasterxml.jackson.databind.annotation.JsonTypeResolver;
+import com.fasterxml.jackson.databind.jsontype.TypeResolverBuilder;
+
+import java.lang.annotation.Annotation;
+
+public class JacksonaticJsonTypeResolver implements JsonTypeResolver, JacksonaticAnnotation {
+
+    private Class<? extends TypeResolverBuilder<?>> value;
+
+    private JacksonaticJsonTypeResolver() {
+    }
+
+    @Override
+    public Class<? extends Annotation> annotationType() {
+        return JsonTypeResolver.class;
+    }
+
+    @Override
+    public Class<? extends TypeResolverBuilder<?>> value() {
+        return value;
+    }
+
+    public static Builder jsonTypeResolver(Class<? extends TypeResolverBuilder<?>> value) {
+        return new Builder().value(value);
+    }
+
+    @Override
+    public String toString() {
+        return "@JsonTypeResolver{" +
+                "value=" + value +
+                '}';
+    }
+
+    public static class Builder implements AnnotationBuilder {
+
+        private JacksonaticJsonTypeResolver jsonTypeResolver = new JacksonaticJsonTypeResolver();
+
+        public Builder value(Class<? extends TypeResolverBuilder<?>> value) {
+            jsonTypeResolver.value = value;
+            return this;
+        }
+
+        @Override
+        public JsonTypeResolver build() {
+            return jsonTypeResolver;
+        }
+    }
+}
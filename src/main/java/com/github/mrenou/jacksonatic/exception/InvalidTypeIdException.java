@@ -0,0 +1,27 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.exception;
+
+public class InvalidTypeIdException extends MappingException {
+
+    public InvalidTypeIdException(int id, int maxId, Class<?> type) {
+        super(String.format("Type id %d is not between 0 and %d in class mapping %s", id, maxId, type.getName()));
+    }
+
+    public InvalidTypeIdException(int id, Class<?> subType, Class<?> type) {
+        super(String.format("Type id %d is already used by %s in class mapping %s", id, subType.getName(), type.getName()));
+    }
+}
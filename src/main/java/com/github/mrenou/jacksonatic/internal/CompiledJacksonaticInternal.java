@@ -0,0 +1,150 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal;
+
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.ClassIntrospector;
+import com.github.mrenou.jacksonatic.CompiledJacksonatic;
+import com.github.mrenou.jacksonatic.JacksonaticOptions;
+import com.github.mrenou.jacksonatic.SerializedFormCacheStats;
+import com.github.mrenou.jacksonatic.WarmUpReport;
+import com.github.mrenou.jacksonatic.internal.accessor.CreatorInstantiatorModule;
+import com.github.mrenou.jacksonatic.internal.accessor.FieldAccessorModule;
+import com.github.mrenou.jacksonatic.internal.cache.SerializedFormCaches;
+import com.github.mrenou.jacksonatic.internal.cache.SerializedFormModule;
+import com.github.mrenou.jacksonatic.internal.introspection.AnnotatedClassConstructor;
+import com.github.mrenou.jacksonatic.internal.introspection.JacksonaticClassIntrospector;
+import com.github.mrenou.jacksonatic.internal.mapping.ClassMappingInternal;
+import com.github.mrenou.jacksonatic.internal.mixin.MixInCompiler;
+import com.github.mrenou.jacksonatic.internal.polymorphism.JacksonaticTypeIdResolver;
+import com.github.mrenou.jacksonatic.internal.polymorphism.TypeIdNotFirstCounts;
+import com.github.mrenou.jacksonatic.internal.warmup.MappingWarmer;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * The mapping configuration is copied once, into a single {@link AnnotatedClassConstructor} shared by the class
+ * introspectors and the modules of every object mapper the snapshot is registered in. Mix-ins are compiled once too,
+ * on the first registration.
+ * <p>
+ * The classes mapped with a type info by name get the type resolver builder of {@link JacksonaticTypeIdResolver} here, before any class mapping
+ * is merged.
+ * <p>
+ * With the eager resolution option, the class mappings are merged with the ones of their super types here, before any
+ * registration.
+ * <p>
+ * The modules caching serialized forms are kept to sum their statistics.
+ */
+public class CompiledJacksonaticInternal implements CompiledJacksonatic {
+
+    private final JacksonaticOptions options;
+
+    private final AnnotatedClassConstructor annotatedClassConstructor;
+
+    private Map<Class<?>, Class<?>> mixIns;
+
+    private final boolean cachesSerializedForms;
+
+    private final TypeIdNotFirstCounts typeIdNotFirstCounts = new TypeIdNotFirstCounts();
+
+    private final boolean readsTypeIdsFirst;
+
+    private final SerializedFormCaches serializedFormCaches;
+
+    public CompiledJacksonaticInternal(JacksonaticInternal jacksonatic) {
+        jacksonatic.checkTypes();
+        this.options = jacksonatic.getOptions();
+        this.annotatedClassConstructor = new AnnotatedClassConstructor(jacksonatic);
+        if (options.typeIdTables()) {
+            JacksonaticTypeIdResolver.attachTo(annotatedClassConstructor.getClassesMappingByOperation());
+        }
+        if (options.eagerResolution()) {
+            annotatedClassConstructor.resolveMergedClassMappings(options.eagerResolutionParallelism());
+        }
+        this.serializedFormCaches = new SerializedFormCaches(options.serializedFormCacheSize());
+        this.cachesSerializedForms = annotatedClassConstructor.getClassesMappingByOperation().values().stream()
+                .anyMatch(classesMapping -> classesMapping.values().stream().anyMatch(ClassMappingInternal::cachesSerializedForm));
+        this.readsTypeIdsFirst = annotatedClassConstructor.getClassesMappingByOperation().values().stream()
+                .anyMatch(classesMapping -> classesMapping.values().stream().anyMatch(ClassMappingInternal::readsTypeIdFirst));
+    }
+
+    @Override
+    public void registerIn(ObjectMapper objectMapper) {
+        if (options.compileToMixIns()) {
+            MixInCompiler.registerIn(objectMapper, getMixIns());
+        } else {
+            registerForSerializationIn(objectMapper);
+            registerForDeserializationIn(objectMapper);
+        }
+        if (readsTypeIdsFirst) {
+            typeIdNotFirstCounts.registerIn(objectMapper);
+        }
+        if (options.directFieldAccess()) {
+            objectMapper.registerModule(new FieldAccessorModule(annotatedClassConstructor));
+        }
+        if (options.directCreatorInvocation()) {
+            objectMapper.registerModule(new CreatorInstantiatorModule(annotatedClassConstructor));
+        }
+        if (cachesSerializedForms) {
+            objectMapper.registerModule(new SerializedFormModule(annotatedClassConstructor, serializedFormCaches));
+        }
+    }
+
+    @Override
+    public WarmUpReport warmUp(ObjectMapper objectMapper, Executor executor) {
+        return new MappingWarmer(annotatedClassConstructor.getClassesMappingByOperation().get(JacksonOperation.ANY)).warmUp(objectMapper, executor);
+    }
+
+    @Override
+    public SerializedFormCacheStats getSerializedFormCacheStats(Class<?> type) {
+        return serializedFormCaches.getStats(type);
+    }
+
+    @Override
+    public long getTypeIdNotFirstCount(Class<?> baseType) {
+        return typeIdNotFirstCounts.get(baseType);
+    }
+
+    private synchronized Map<Class<?>, Class<?>> getMixIns() {
+        if (mixIns == null) {
+            mixIns = new MixInCompiler(annotatedClassConstructor).compile();
+        }
+        return mixIns;
+    }
+
+    private void registerForSerializationIn(ObjectMapper objectMapper) {
+        SerializationConfig serializationConfig = objectMapper.getSerializationConfig();
+        ClassIntrospector classIntrospector = serializationConfig.getClassIntrospector();
+        if (!(classIntrospector instanceof JacksonaticClassIntrospector)) {
+            objectMapper.setConfig(serializationConfig.with(new JacksonaticClassIntrospector(options)));
+        }
+        JacksonaticClassIntrospector basicClassIntrospector = (JacksonaticClassIntrospector) objectMapper.getSerializationConfig().getClassIntrospector();
+        basicClassIntrospector.register(annotatedClassConstructor);
+    }
+
+    private void registerForDeserializationIn(ObjectMapper objectMapper) {
+        DeserializationConfig deserializationConfig = objectMapper.getDeserializationConfig();
+        ClassIntrospector classIntrospector = deserializationConfig.getClassIntrospector();
+        if (!(classIntrospector instanceof JacksonaticClassIntrospector)) {
+            objectMapper.setConfig(deserializationConfig.with(new JacksonaticClassIntrospector(options)));
+        }
+        JacksonaticClassIntrospector basicClassIntrospector = (JacksonaticClassIntrospector) objectMapper.getDeserializationConfig().getClassIntrospector();
+        basicClassIntrospector.register(annotatedClassConstructor);
+    }
+}
@@ -15,20 +15,21 @@
  */
 package com.github.mrenou.jacksonatic.internal;
 
-import com.fasterxml.jackson.databind.DeserializationConfig;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationConfig;
-import com.fasterxml.jackson.databind.introspect.ClassIntrospector;
+import com.github.mrenou.jacksonatic.CompiledJacksonatic;
 import com.github.mrenou.jacksonatic.Jacksonatic;
 import com.github.mrenou.jacksonatic.JacksonaticOptions;
-import com.github.mrenou.jacksonatic.internal.introspection.JacksonaticClassIntrospector;
+import com.github.mrenou.jacksonatic.WarmUpReport;
 import com.github.mrenou.jacksonatic.internal.mapping.ClassMappingByOperation;
 import com.github.mrenou.jacksonatic.internal.mapping.ClassMappingInternal;
 import com.github.mrenou.jacksonatic.internal.mapping.ClassesMapping;
 import com.github.mrenou.jacksonatic.internal.mapping.TypeNameAutoAssigner;
 import com.github.mrenou.jacksonatic.internal.util.CopyableHashMap;
+import com.github.mrenou.jacksonatic.internal.warmup.MappingWarmer;
 import com.github.mrenou.jacksonatic.mapping.ClassMapping;
 
+import java.util.concurrent.Executor;
+
 import static com.github.mrenou.jacksonatic.internal.JacksonOperation.*;
 
 public class JacksonaticInternal implements Jacksonatic {
@@ -52,7 +53,7 @@ public class JacksonaticInternal implements Jacksonatic {
         ClassMappingByOperation<Object> newClassMappingByOperation = (ClassMappingByOperation<Object>) newClassMapping;
         mergeNew(newClassMappingByOperation);
         typeNameAutoAssigner.assignTypeNameIfNecessary(classesMappingByOperation.get(ANY), newClassMappingByOperation.getClassMappingFor(ANY));
-        typeNameAutoAssigner.saveTypeWithJsonSubTypes(newClassMappingByOperation.getClassMappingFor(ANY));
+        typeNameAutoAssigner.saveTypeWithJsonSubTypes(classesMappingByOperation.get(ANY), newClassMappingByOperation.getClassMappingFor(ANY));
         return this;
     }
 
@@ -78,35 +79,23 @@ public class JacksonaticInternal implements Jacksonatic {
 
     @Override
     public void registerIn(ObjectMapper objectMapper) {
-        checkTypes();
-        registerForSerializationIn(objectMapper);
-        registerForDeserializationIn(objectMapper);
+        compile().registerIn(objectMapper);
     }
 
-    private void checkTypes() {
-        if (options.typeChecking()) {
-            classesMappingByOperation.forEach((operation, classesMapping) -> classesMapping.forEach((type, classMapping) -> classMapping.checkTypes()));
-        }
+    @Override
+    public CompiledJacksonatic compile() {
+        return new CompiledJacksonaticInternal(this);
     }
 
-    private void registerForSerializationIn(ObjectMapper objectMapper) {
-        SerializationConfig serializationConfig = objectMapper.getSerializationConfig();
-        ClassIntrospector classIntrospector = serializationConfig.getClassIntrospector();
-        if (!(classIntrospector instanceof JacksonaticClassIntrospector)) {
-            objectMapper.setConfig(serializationConfig.with(new JacksonaticClassIntrospector()));
-        }
-        JacksonaticClassIntrospector basicClassIntrospector = (JacksonaticClassIntrospector) objectMapper.getSerializationConfig().getClassIntrospector();
-        basicClassIntrospector.register(this);
+    @Override
+    public WarmUpReport warmUp(ObjectMapper objectMapper, Executor executor) {
+        return new MappingWarmer(classesMappingByOperation.get(ANY)).warmUp(objectMapper, executor);
     }
 
-    private void registerForDeserializationIn(ObjectMapper objectMapper) {
-        DeserializationConfig deserializationConfig = objectMapper.getDeserializationConfig();
-        ClassIntrospector classIntrospector = deserializationConfig.getClassIntrospector();
-        if (!(classIntrospector instanceof JacksonaticClassIntrospector)) {
-            objectMapper.setConfig(deserializationConfig.with(new JacksonaticClassIntrospector()));
+    public void checkTypes() {
+        if (options.typeChecking()) {
+            classesMappingByOperation.forEach((operation, classesMapping) -> classesMapping.forEach((type, classMapping) -> classMapping.checkTypes()));
         }
-        JacksonaticClassIntrospector basicClassIntrospector = (JacksonaticClassIntrospector) objectMapper.getDeserializationConfig().getClassIntrospector();
-        basicClassIntrospector.register(this);
     }
 
     @Override
@@ -119,4 +108,8 @@ public class JacksonaticInternal implements Jacksonatic {
     public CopyableHashMap<JacksonOperation, ClassesMapping> getClassesMappingByOperation() {
         return classesMappingByOperation;
     }
+
+    public JacksonaticOptions getOptions() {
+        return options;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.accessor;
+
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdValueInstantiator;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+
+/**
+ * Value instantiator calling the creator with arguments through a method handle instead of reflection. The other
+ * creators are still called by {@link StdValueInstantiator}. Anything thrown by the creator is wrapped in a
+ * {@link com.fasterxml.jackson.databind.JsonMappingException}, as it is when the creator is called by reflection, except
+ * the errors of the virtual machine.
+ */
+class CreatorInstantiator extends StdValueInstantiator {
+
+    private final MethodHandle creator;
+
+    CreatorInstantiator(StdValueInstantiator src, MethodHandle creator) {
+        super(src);
+        this.creator = creator;
+    }
+
+    @Override
+    public Object createFromObjectWith(DeserializationContext ctxt, Object[] args) throws IOException {
+        try {
+            return (Object) creator.invokeExact(args);
+        } catch (VirtualMachineError e) {
+            throw e;
+        } catch (Throwable e) {
+            throw wrapException(e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.accessor;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
+import com.fasterxml.jackson.databind.deser.ValueInstantiators;
+import com.fasterxml.jackson.databind.deser.std.StdValueInstantiator;
+import com.fasterxml.jackson.databind.introspect.AnnotatedWithParams;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.github.mrenou.jacksonatic.internal.introspection.AnnotatedClassConstructor;
+import com.github.mrenou.jacksonatic.internal.mapping.ClassMappingInternal;
+
+import static com.github.mrenou.jacksonatic.internal.JacksonOperation.DESERIALIZATION;
+
+/**
+ * Replace the value instantiator of classes mapped with a constructor or a static factory, so the creator found by
+ * {@link com.github.mrenou.jacksonatic.internal.mapping.builder.ClassBuilderFinder} is called through a method handle
+ * bound once.
+ * <p>
+ * Only the standard value instantiator of Jackson is replaced, a value instantiator provided by an annotation or by
+ * another module is left unchanged.
+ */
+public class CreatorInstantiatorModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient AnnotatedClassConstructor annotatedClassConstructor;
+
+    public CreatorInstantiatorModule(AnnotatedClassConstructor annotatedClassConstructor) {
+        super("JacksonaticCreatorInstantiatorModule");
+        this.annotatedClassConstructor = annotatedClassConstructor;
+    }
+
+    @Override
+    public Object getTypeId() {
+        return this;
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        context.addValueInstantiators(new ValueInstantiators.Base() {
+            @Override
+            public ValueInstantiator findValueInstantiator(DeserializationConfig config, BeanDescription beanDesc, ValueInstantiator defaultInstantiator) {
+                return replaceInstantiator(beanDesc.getBeanClass(), defaultInstantiator);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private ValueInstantiator replaceInstantiator(Class<?> beanClass, ValueInstantiator defaultInstantiator) {
+        if (defaultInstantiator.getClass() != StdValueInstantiator.class || beanClass.getName().startsWith("java.")) {
+            return defaultInstantiator;
+        }
+        StdValueInstantiator stdValueInstantiator = (StdValueInstantiator) defaultInstantiator;
+        AnnotatedWithParams withArgsCreator = stdValueInstantiator.getWithArgsCreator();
+        boolean hasClassBuilder = annotatedClassConstructor.getMergedClassMapping(DESERIALIZATION, (Class<Object>) beanClass)
+                .flatMap(ClassMappingInternal::getClassBuilderCriteriaOpt)
+                .isPresent();
+        if (withArgsCreator == null || stdValueInstantiator.getIncompleteParameter() != null || !hasClassBuilder) {
+            return defaultInstantiator;
+        }
+        return MemberHandles.creator(withArgsCreator.getMember())
+                .<ValueInstantiator>map(creator -> new CreatorInstantiator(stdValueInstantiator, creator))
+                .orElse(defaultInstantiator);
+    }
+}
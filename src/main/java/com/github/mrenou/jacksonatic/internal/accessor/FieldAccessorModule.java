@@ -0,0 +1,122 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.accessor;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.impl.FieldProperty;
+import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.github.mrenou.jacksonatic.internal.JacksonOperation;
+import com.github.mrenou.jacksonatic.internal.introspection.AnnotatedClassConstructor;
+import com.github.mrenou.jacksonatic.internal.mapping.ClassMappingInternal;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import static com.github.mrenou.jacksonatic.internal.JacksonOperation.DESERIALIZATION;
+import static com.github.mrenou.jacksonatic.internal.JacksonOperation.SERIALIZATION;
+
+/**
+ * Replace the property writers and the settable properties of mapped fields with ones accessing the field through a
+ * method handle.
+ * <p>
+ * Only properties built by Jackson on a field are replaced, so properties using accessors, or customized by another
+ * module, are left unchanged. A module is registered for each registration of a mapping, the last one registered is
+ * applied first.
+ */
+public class FieldAccessorModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient AnnotatedClassConstructor annotatedClassConstructor;
+
+    public FieldAccessorModule(AnnotatedClassConstructor annotatedClassConstructor) {
+        super("JacksonaticFieldAccessorModule");
+        this.annotatedClassConstructor = annotatedClassConstructor;
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc, List<BeanPropertyWriter> beanProperties) {
+                return replaceWriters(beanDesc.getBeanClass(), beanProperties);
+            }
+        });
+        setDeserializerModifier(new BeanDeserializerModifier() {
+            @Override
+            public BeanDeserializerBuilder updateBuilder(DeserializationConfig config, BeanDescription beanDesc, BeanDeserializerBuilder builder) {
+                replaceProperties(beanDesc.getBeanClass(), builder);
+                return builder;
+            }
+        });
+    }
+
+    @Override
+    public Object getTypeId() {
+        return this;
+    }
+
+    private List<BeanPropertyWriter> replaceWriters(Class<?> beanClass, List<BeanPropertyWriter> beanProperties) {
+        getClassMapping(SERIALIZATION, beanClass).ifPresent(classMapping -> {
+            for (int i = 0; i < beanProperties.size(); i++) {
+                BeanPropertyWriter writer = beanProperties.get(i);
+                if (writer.getClass() == BeanPropertyWriter.class && isMappedField(classMapping, writer.getMember())) {
+                    int index = i;
+                    MemberHandles.getter(((AnnotatedField) writer.getMember()).getAnnotated())
+                            .ifPresent(getter -> beanProperties.set(index, new FieldAccessorPropertyWriter(writer, getter)));
+                }
+            }
+        });
+        return beanProperties;
+    }
+
+    private void replaceProperties(Class<?> beanClass, BeanDeserializerBuilder builder) {
+        getClassMapping(DESERIALIZATION, beanClass).ifPresent(classMapping -> {
+            List<SettableBeanProperty> properties = new ArrayList<>();
+            for (Iterator<SettableBeanProperty> iterator = builder.getProperties(); iterator.hasNext(); ) {
+                SettableBeanProperty property = iterator.next();
+                if (property.getClass() == FieldProperty.class && isMappedField(classMapping, property.getMember())) {
+                    AnnotatedField annotatedField = (AnnotatedField) property.getMember();
+                    MemberHandles.setter(annotatedField.getAnnotated())
+                            .ifPresent(setter -> properties.add(new FieldAccessorProperty(property, annotatedField, setter)));
+                }
+            }
+            properties.forEach(property -> builder.addOrReplaceProperty(property, true));
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<ClassMappingInternal<Object>> getClassMapping(JacksonOperation operation, Class<?> beanClass) {
+        if (beanClass.getName().startsWith("java.")) {
+            return Optional.empty();
+        }
+        return annotatedClassConstructor.getMergedClassMapping(operation, (Class<Object>) beanClass);
+    }
+
+    private static boolean isMappedField(ClassMappingInternal<Object> classMapping, AnnotatedMember member) {
+        if (!(member instanceof AnnotatedField)) {
+            return false;
+        }
+        return classMapping.isFieldMapped(member.getName());
+    }
+}
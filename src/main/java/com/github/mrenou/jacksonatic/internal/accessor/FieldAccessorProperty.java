@@ -0,0 +1,107 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.accessor;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+
+/**
+ * Settable property writing a field with a method handle instead of {@link java.lang.reflect.Field#set(Object, Object)}.
+ */
+class FieldAccessorProperty extends SettableBeanProperty {
+
+    private static final long serialVersionUID = 1L;
+
+    private final AnnotatedField annotated;
+
+    private final transient MethodHandle setter;
+
+    FieldAccessorProperty(SettableBeanProperty src, AnnotatedField annotated, MethodHandle setter) {
+        super(src);
+        this.annotated = annotated;
+        this.setter = setter;
+    }
+
+    private FieldAccessorProperty(FieldAccessorProperty src, JsonDeserializer<?> deser) {
+        super(src, deser);
+        this.annotated = src.annotated;
+        this.setter = src.setter;
+    }
+
+    private FieldAccessorProperty(FieldAccessorProperty src, PropertyName newName) {
+        super(src, newName);
+        this.annotated = src.annotated;
+        this.setter = src.setter;
+    }
+
+    @Override
+    public SettableBeanProperty withValueDeserializer(JsonDeserializer<?> deser) {
+        return new FieldAccessorProperty(this, deser);
+    }
+
+    @Override
+    public SettableBeanProperty withName(PropertyName newName) {
+        return new FieldAccessorProperty(this, newName);
+    }
+
+    @Override
+    public <A extends Annotation> A getAnnotation(Class<A> acls) {
+        return annotated.getAnnotation(acls);
+    }
+
+    @Override
+    public AnnotatedMember getMember() {
+        return annotated;
+    }
+
+    @Override
+    public void deserializeAndSet(JsonParser p, DeserializationContext ctxt, Object instance) throws IOException {
+        set(instance, deserialize(p, ctxt));
+    }
+
+    @Override
+    public Object deserializeSetAndReturn(JsonParser p, DeserializationContext ctxt, Object instance) throws IOException {
+        return setAndReturn(instance, deserialize(p, ctxt));
+    }
+
+    @Override
+    public void set(Object instance, Object value) throws IOException {
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Exception e) {
+            _throwAsIOE(e, value);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public Object setAndReturn(Object instance, Object value) throws IOException {
+        set(instance, value);
+        return instance;
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.accessor;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * Property writer reading a field with a method handle instead of {@link java.lang.reflect.Field#get(Object)}.
+ * <p>
+ * The serialization is the one of {@link BeanPropertyWriter}, only the read of the value changes.
+ */
+class FieldAccessorPropertyWriter extends BeanPropertyWriter {
+
+    private final transient MethodHandle getter;
+
+    FieldAccessorPropertyWriter(BeanPropertyWriter base, MethodHandle getter) {
+        super(base);
+        this.getter = getter;
+    }
+
+    @Override
+    public BeanPropertyWriter rename(NameTransformer transformer) {
+        BeanPropertyWriter renamed = super.rename(transformer);
+        return renamed == this ? this : new FieldAccessorPropertyWriter(renamed, getter);
+    }
+
+    @Override
+    public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+        Object value = read(bean);
+        if (value == null) {
+            if (_nullSerializer != null) {
+                gen.writeFieldName(_name);
+                _nullSerializer.serialize(null, gen, prov);
+            }
+            return;
+        }
+        JsonSerializer<Object> ser = findSerializer(value, prov);
+        if (isSuppressed(value, ser, prov)) {
+            return;
+        }
+        if (value == bean && _handleSelfReference(bean, gen, prov, ser)) {
+            return;
+        }
+        gen.writeFieldName(_name);
+        serializeValue(value, ser, gen, prov);
+    }
+
+    @Override
+    public void serializeAsElement(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+        Object value = read(bean);
+        if (value == null) {
+            if (_nullSerializer != null) {
+                _nullSerializer.serialize(null, gen, prov);
+            } else {
+                gen.writeNull();
+            }
+            return;
+        }
+        JsonSerializer<Object> ser = findSerializer(value, prov);
+        if (isSuppressed(value, ser, prov)) {
+            serializeAsPlaceholder(bean, gen, prov);
+            return;
+        }
+        if (value == bean && _handleSelfReference(bean, gen, prov, ser)) {
+            return;
+        }
+        serializeValue(value, ser, gen, prov);
+    }
+
+    private Object read(Object bean) throws Exception {
+        try {
+            return (Object) getter.invokeExact(bean);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    private JsonSerializer<Object> findSerializer(Object value, SerializerProvider prov) throws Exception {
+        JsonSerializer<Object> ser = _serializer;
+        if (ser == null) {
+            Class<?> cls = value.getClass();
+            PropertySerializerMap map = _dynamicSerializers;
+            ser = map.serializerFor(cls);
+            if (ser == null) {
+                ser = _findAndAddDynamic(map, cls, prov);
+            }
+        }
+        return ser;
+    }
+
+    private boolean isSuppressed(Object value, JsonSerializer<Object> ser, SerializerProvider prov) {
+        if (_suppressableValue == null) {
+            return false;
+        }
+        if (MARKER_FOR_EMPTY == _suppressableValue) {
+            return ser.isEmpty(prov, value);
+        }
+        return _suppressableValue.equals(value);
+    }
+
+    private void serializeValue(Object value, JsonSerializer<Object> ser, JsonGenerator gen, SerializerProvider prov) throws Exception {
+        if (_typeSerializer == null) {
+            ser.serialize(value, gen, prov);
+        } else {
+            ser.serializeWithType(value, gen, prov, _typeSerializer);
+        }
+    }
+}
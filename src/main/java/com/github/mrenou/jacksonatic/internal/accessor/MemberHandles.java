@@ -0,0 +1,86 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.accessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+
+/**
+ * Build method handles reading and writing a field, or calling a creator, typed to be invoked exactly with
+ * {@link Object} arguments.
+ * <p>
+ * No handle is returned when the member cannot be made accessible, or when a final field cannot be written, Jackson
+ * keeps then its reflective access.
+ */
+class MemberHandles {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodType CREATOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private MemberHandles() {
+    }
+
+    static Optional<MethodHandle> getter(Field field) {
+        try {
+            field.setAccessible(true);
+            return Optional.of(MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE));
+        } catch (IllegalAccessException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    static Optional<MethodHandle> setter(Field field) {
+        try {
+            field.setAccessible(true);
+            return Optional.of(MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE));
+        } catch (IllegalAccessException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    static Optional<MethodHandle> creator(Member creator) {
+        try {
+            MethodHandle methodHandle;
+            int parameterCount;
+            if (creator instanceof Constructor) {
+                Constructor<?> constructor = (Constructor<?>) creator;
+                constructor.setAccessible(true);
+                methodHandle = MethodHandles.lookup().unreflectConstructor(constructor);
+                parameterCount = constructor.getParameterCount();
+            } else if (creator instanceof Method && Modifier.isStatic(creator.getModifiers())) {
+                Method staticFactory = (Method) creator;
+                staticFactory.setAccessible(true);
+                methodHandle = MethodHandles.lookup().unreflect(staticFactory);
+                parameterCount = staticFactory.getParameterCount();
+            } else {
+                return Optional.empty();
+            }
+            return Optional.of(methodHandle.asSpreader(Object[].class, parameterCount).asType(CREATOR_TYPE));
+        } catch (IllegalAccessException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -18,12 +18,42 @@ package com.github.mrenou.jacksonatic.internal.annotations;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.github.mrenou.jacksonatic.annotation.AnnotationBuilder;
-import com.github.mrenou.jacksonatic.internal.util.MapUtil;
-import com.github.mrenou.jacksonatic.internal.util.TypedHashMap;
 
 import java.lang.annotation.Annotation;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
 
-public class Annotations extends TypedHashMap<Class<? extends Annotation>, Annotation> {
+/**
+ * Annotations of a class, a member or a parameter, by annotation type.
+ * <p>
+ * A member has usually one or two annotations, so they are kept in an array of alternate keys and values, looked up
+ * linearly. The array is shared with the copies and copied on the first write, by the copy or by the original.
+ */
+public class Annotations extends AbstractMap<Class<? extends Annotation>, Annotation> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private Object[] entries;
+
+    private int size;
+
+    private boolean shared;
+
+    public Annotations() {
+        this(EMPTY, 0);
+    }
+
+    private Annotations(Object[] entries, int size) {
+        this.entries = entries;
+        this.size = size;
+        this.shared = true;
+    }
 
     public void add(AnnotationBuilder annotationBuilder) {
         Annotation annotation = annotationBuilder.build();
@@ -31,21 +61,145 @@ public class Annotations extends TypedHashMap<Class<? extends Annotation>, Annot
     }
 
     public void remove(Class<? extends Annotation> annotationClass) {
-        super.remove(annotationClass);
+        remove((Object) annotationClass);
+    }
+
+    public Optional<Annotation> getOpt(Class<? extends Annotation> annotationClass) {
+        return Optional.ofNullable(get(annotationClass));
+    }
+
+    @Override
+    public Annotation get(Object annotationClass) {
+        int index = indexOf(annotationClass);
+        return index < 0 ? null : (Annotation) entries[index + 1];
+    }
+
+    @Override
+    public boolean containsKey(Object annotationClass) {
+        return indexOf(annotationClass) >= 0;
+    }
+
+    @Override
+    public Annotation put(Class<? extends Annotation> annotationClass, Annotation annotation) {
+        int index = indexOf(annotationClass);
+        ownEntries(index < 0 ? size + 1 : size);
+        if (index >= 0) {
+            Annotation oldAnnotation = (Annotation) entries[index + 1];
+            entries[index + 1] = annotation;
+            return oldAnnotation;
+        }
+        entries[2 * size] = annotationClass;
+        entries[2 * size + 1] = annotation;
+        size++;
+        return null;
+    }
+
+    @Override
+    public Annotation remove(Object annotationClass) {
+        int index = indexOf(annotationClass);
+        if (index < 0) {
+            return null;
+        }
+        ownEntries(size);
+        Annotation oldAnnotation = (Annotation) entries[index + 1];
+        System.arraycopy(entries, index + 2, entries, index, 2 * size - index - 2);
+        size--;
+        entries[2 * size] = null;
+        entries[2 * size + 1] = null;
+        return oldAnnotation;
+    }
+
+    @Override
+    public void clear() {
+        entries = EMPTY;
+        size = 0;
+        shared = true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super Class<? extends Annotation>, ? super Annotation> action) {
+        for (int i = 0; i < 2 * size; i += 2) {
+            action.accept((Class<? extends Annotation>) entries[i], (Annotation) entries[i + 1]);
+        }
+    }
+
+    @Override
+    public Set<Entry<Class<? extends Annotation>, Annotation>> entrySet() {
+        return new AbstractSet<Entry<Class<? extends Annotation>, Annotation>>() {
+            @Override
+            public Iterator<Entry<Class<? extends Annotation>, Annotation>> iterator() {
+                Object[] iteratedEntries = entries;
+                int iteratedSize = size;
+                return new Iterator<Entry<Class<? extends Annotation>, Annotation>>() {
+
+                    private int index = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < iteratedSize;
+                    }
+
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public Entry<Class<? extends Annotation>, Annotation> next() {
+                        if (index >= iteratedSize) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<Class<? extends Annotation>, Annotation> entry = new SimpleImmutableEntry<>(
+                                (Class<? extends Annotation>) iteratedEntries[2 * index], (Annotation) iteratedEntries[2 * index + 1]);
+                        index++;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
     }
 
     public Annotations copy() {
-        return super.copy(Annotations::new);
+        shared = true;
+        return new Annotations(entries, size);
     }
 
-    public Annotations mergeWith(Annotations map) {
-        return MapUtil.merge(this, map, annotation -> annotation, (annotation, annotationParent) -> annotation);
+    public Annotations mergeWith(Annotations annotations) {
+        return mergeWithParent(annotations, false);
     }
 
     public Annotations mergeWithParent(Annotations parentAnnotations) {
-        boolean ignoredButMappedByParent = parentAnnotations.containsKey(JsonProperty.class) && containsKey(JsonIgnore.class);
-        boolean mappedButIgnoredByParent = parentAnnotations.containsKey(JsonIgnore.class) && containsKey(JsonProperty.class);
-        Annotations annotations = MapUtil.merge(this, parentAnnotations, annotation -> annotation, (annotation, annotationParent) -> annotation);
+        return mergeWithParent(parentAnnotations, true);
+    }
+
+    private Annotations mergeWithParent(Annotations parentAnnotations, boolean resolveIgnoreConflict) {
+        if (parentAnnotations.isEmpty()) {
+            return copy();
+        }
+        if (isEmpty()) {
+            return parentAnnotations.copy();
+        }
+        boolean ignoredButMappedByParent = resolveIgnoreConflict && parentAnnotations.containsKey(JsonProperty.class) && containsKey(JsonIgnore.class);
+        boolean mappedButIgnoredByParent = resolveIgnoreConflict && parentAnnotations.containsKey(JsonIgnore.class) && containsKey(JsonProperty.class);
+        Object[] mergedEntries = Arrays.copyOf(entries, 2 * (size + parentAnnotations.size));
+        int mergedSize = size;
+        for (int i = 0; i < 2 * parentAnnotations.size; i += 2) {
+            Object annotationClass = parentAnnotations.entries[i];
+            if (indexOf(annotationClass) < 0) {
+                mergedEntries[2 * mergedSize] = annotationClass;
+                mergedEntries[2 * mergedSize + 1] = parentAnnotations.entries[i + 1];
+                mergedSize++;
+            }
+        }
+        Annotations annotations = new Annotations(mergedEntries, mergedSize);
+        annotations.shared = false;
         if (ignoredButMappedByParent) {
             annotations.remove(JsonProperty.class);
         }
@@ -54,4 +208,23 @@ public class Annotations extends TypedHashMap<Class<? extends Annotation>, Annot
         }
         return annotations;
     }
+
+    private int indexOf(Object annotationClass) {
+        for (int i = 0; i < 2 * size; i += 2) {
+            if (entries[i] == annotationClass) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Copy the entries before a write when they are shared, or grow them when they are too small.
+     */
+    private void ownEntries(int newSize) {
+        if (shared || 2 * newSize > entries.length) {
+            entries = Arrays.copyOf(entries, Math.max(2 * newSize, shared ? 2 * size : Math.max(4, 2 * entries.length)));
+            shared = false;
+        }
+    }
 }
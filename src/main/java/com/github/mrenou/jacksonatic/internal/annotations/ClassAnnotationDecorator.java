@@ -15,25 +15,32 @@
  */
 package com.github.mrenou.jacksonatic.internal.annotations;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.introspect.*;
 import com.github.mrenou.jacksonatic.internal.AnnotatedClassLogger;
+import com.github.mrenou.jacksonatic.internal.JacksonOperation;
 import com.github.mrenou.jacksonatic.internal.mapping.ClassMappingInternal;
 import com.github.mrenou.jacksonatic.internal.mapping.builder.ClassBuilderFinder;
 import com.github.mrenou.jacksonatic.internal.mapping.builder.ClassBuilderMapping;
 import com.github.mrenou.jacksonatic.internal.mapping.builder.parameter.ParameterMapping;
-import com.github.mrenou.jacksonatic.internal.mapping.field.FieldMappingInternal;
+import com.github.mrenou.jacksonatic.internal.mapping.field.FieldPlan;
+import com.github.mrenou.jacksonatic.internal.mapping.method.MethodMappingIndex;
 import com.github.mrenou.jacksonatic.internal.mapping.method.MethodMappingInternal;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
-import static com.github.mrenou.jacksonatic.internal.mapping.method.MethodSignature.methodSignature;
-import static com.github.mrenou.jacksonatic.internal.mapping.method.MethodSignature.methodSignatureIgnoringParameters;
-import static com.github.mrenou.jacksonatic.internal.util.StreamUtil.getFirstPresent;
+import static com.github.mrenou.jacksonatic.annotation.JacksonaticJsonPropertyOrder.jsonPropertyOrder;
 import static com.github.mrenou.jacksonatic.internal.util.StreamUtil.stream;
 
 /**
@@ -44,60 +51,122 @@ public class ClassAnnotationDecorator {
 
     private ClassBuilderFinder classBuilderFinder = new ClassBuilderFinder();
 
-    public AnnotatedClass decorate(AnnotatedClass annotatedClass, ClassMappingInternal<Object> classMapping) {
-        annotatedClass = addClassAnnotations(annotatedClass, classMapping);
+    public AnnotatedClass decorate(JacksonOperation operation, AnnotatedClass annotatedClass, ClassMappingInternal<Object> classMapping) {
+        return decorate(operation, annotatedClass, classMapping, classMapping);
+    }
+
+    /**
+     * @param creatorClassMapping class mapping giving the constructor or static factory used to deserialize the class,
+     *                            which orders the properties written first
+     */
+    public AnnotatedClass decorate(JacksonOperation operation, AnnotatedClass annotatedClass, ClassMappingInternal<Object> classMapping, ClassMappingInternal<Object> creatorClassMapping) {
+        annotatedClass = addClassAnnotations(annotatedClass, classMapping, creatorClassMapping);
         addFieldAnnotations(annotatedClass, classMapping);
         addMethodAnnotations(annotatedClass, classMapping);
-        addBuilderAnnotations(annotatedClass, classMapping);
+        addBuilderAnnotations(operation, annotatedClass, classMapping);
         AnnotatedClassLogger.log(annotatedClass);
         return annotatedClass;
     }
 
-    private AnnotatedClass addClassAnnotations(AnnotatedClass annotatedClass, ClassMappingInternal<Object> classMapping) {
+    private AnnotatedClass addClassAnnotations(AnnotatedClass annotatedClass, ClassMappingInternal<Object> classMapping, ClassMappingInternal<Object> creatorClassMapping) {
         AnnotationMap annotationMap = new AnnotationMap();
         stream(annotatedClass.annotations()).forEach(annotationMap::add);
         classMapping.getAnnotations().values().stream().forEach(annotationMap::add);
+        getPropertyOrder(annotatedClass, classMapping, creatorClassMapping).ifPresent(annotationMap::add);
         return annotatedClass.withAnnotations(annotationMap);
     }
 
-    private void addFieldAnnotations(AnnotatedClass annotatedClass, ClassMappingInternal<Object> classMapping) {
-        stream(annotatedClass.fields()).forEach(annotatedField -> {
-            FieldMappingInternal fieldMapping = classMapping.getOrCreateFieldMappingInternal(annotatedField.getName());
-            mapByDefaultIfAllFieldsAreMapped(classMapping, fieldMapping);
-            ignoreByDefaultIfAllFieldsAreNotMapped(classMapping, fieldMapping);
-            fieldMapping.getAnnotations().values().stream().forEach(annotatedField::addOrOverride);
-        });
+    /**
+     * @return order of the properties of a class mapped as an array or with its creator properties first, unless the
+     * class defines its own: the parameters of the class builder used for deserialization, then for an array its
+     * mapped fields sorted by name, then any other property sorted by name
+     */
+    public Optional<JsonPropertyOrder> getPropertyOrder(AnnotatedClass annotatedClass, ClassMappingInternal<Object> classMapping, ClassMappingInternal<Object> creatorClassMapping) {
+        boolean asArray = classMapping.getAnnotationOpt(JsonFormat.class)
+                .map(jsonFormat -> jsonFormat.shape() == JsonFormat.Shape.ARRAY)
+                .orElse(false);
+        boolean creatorPropertiesFirst = classMapping.writesCreatorPropertiesFirst() || creatorClassMapping.writesCreatorPropertiesFirst();
+        if (!asArray && !creatorPropertiesFirst
+                || classMapping.hasAnnotation(JsonPropertyOrder.class) || annotatedClass.hasAnnotation(JsonPropertyOrder.class)) {
+            return Optional.empty();
+        }
+        Set<String> propertyNames = new LinkedHashSet<>();
+        getClassBuilderMapping(JacksonOperation.DESERIALIZATION, creatorClassMapping).ifPresent(classBuilderMapping -> classBuilderMapping.getParametersMapping()
+                .forEach(parameterMapping -> propertyNames.add(getJsonPropertyName(parameterMapping.getAnnotations(), null))));
+        if (!asArray) {
+            return Optional.of(jsonPropertyOrder(propertyNames.toArray(new String[propertyNames.size()])).build());
+        }
+        FieldPlan fieldPlan = classMapping.getFieldPlan();
+        List<String> fieldNames = new ArrayList<>();
+        for (AnnotatedField annotatedField : annotatedClass.fields()) {
+            if (fieldPlan.isMapped(annotatedField.getName())) {
+                fieldNames.add(getJsonPropertyName(fieldPlan.getAnnotations(annotatedField.getName()), annotatedField.getName()));
+            }
+        }
+        Collections.sort(fieldNames);
+        propertyNames.addAll(fieldNames);
+        return Optional.of(jsonPropertyOrder(propertyNames.toArray(new String[propertyNames.size()])).alphabetic(true).build());
     }
 
-    private void mapByDefaultIfAllFieldsAreMapped(ClassMappingInternal<Object> classMapping, FieldMappingInternal fieldMapping) {
-        if (classMapping.allFieldsAreMapped() && !fieldMapping.isMapped() && !fieldMapping.isIgnored()) {
-            fieldMapping.map();
-        }
+    private static String getJsonPropertyName(Annotations annotations, String defaultName) {
+        return Optional.ofNullable((JsonProperty) annotations.get(JsonProperty.class))
+                .map(JsonProperty::value)
+                .filter(name -> !name.isEmpty())
+                .orElse(defaultName);
     }
 
-    private void ignoreByDefaultIfAllFieldsAreNotMapped(ClassMappingInternal<Object> classMapping, FieldMappingInternal fieldMapping) {
-        if (!classMapping.allFieldsAreMapped() && !fieldMapping.isMapped() && !fieldMapping.isIgnored()) {
-            fieldMapping.ignore();
+    private void addFieldAnnotations(AnnotatedClass annotatedClass, ClassMappingInternal<Object> classMapping) {
+        FieldPlan fieldPlan = classMapping.getFieldPlan();
+        for (AnnotatedField annotatedField : annotatedClass.fields()) {
+            fieldPlan.getAnnotations(annotatedField.getName()).forEach((annotationType, annotation) -> annotatedField.addOrOverride(annotation));
         }
     }
 
+    /**
+     * @return annotations of the field, mapped or ignored by default when the class mapping doesn't define it, shared
+     * and not to modify
+     */
+    public Annotations getFieldAnnotations(ClassMappingInternal<Object> classMapping, String fieldName) {
+        return classMapping.getFieldPlan().getAnnotations(fieldName);
+    }
+
     private static void addMethodAnnotations(AnnotatedClass annotatedClass, ClassMappingInternal<Object> classMapping) {
-        stream(annotatedClass.memberMethods()).forEach(annotatedMethod -> getFirstPresent(
-                () -> classMapping.<MethodMappingInternal>getMethodMappingInternal(methodSignature(annotatedMethod.getName(), annotatedMethod.getRawParameterTypes())),
-                () -> classMapping.<MethodMappingInternal>getMethodMappingInternal(methodSignatureIgnoringParameters(annotatedMethod.getName()))).ifPresent(methodMapping -> methodMapping.getAnnotations().values().stream()
-                .forEach(annotatedMethod::addOrOverride)));
+        MethodMappingIndex methodMappingIndex = classMapping.getMethodMappingIndex();
+        if (methodMappingIndex.isEmpty()) {
+            return;
+        }
+        for (AnnotatedMethod annotatedMethod : annotatedClass.memberMethods()) {
+            MethodMappingInternal methodMapping = methodMappingIndex.find(annotatedMethod.getName(), annotatedMethod.getRawParameterTypes());
+            if (methodMapping != null) {
+                methodMapping.getAnnotations().forEach((annotationType, annotation) -> annotatedMethod.addOrOverride(annotation));
+            }
+        }
+    }
+
+    /**
+     * @return mapping of the method with these parameters, or else mapping of the method whatever its parameters
+     */
+    public static Optional<MethodMappingInternal> getMethodMapping(ClassMappingInternal<Object> classMapping, String name, Class<?>[] parameterTypes) {
+        return Optional.ofNullable(classMapping.getMethodMappingIndex().find(name, parameterTypes));
+    }
+
+    private void addBuilderAnnotations(JacksonOperation operation, AnnotatedClass annotatedClass, ClassMappingInternal<Object> classMapping) {
+        getClassBuilderMapping(operation, classMapping)
+                .ifPresent(classBuilderMapping -> {
+                    if (classBuilderMapping.isStaticFactory()) {
+                        addStaticFactoryAnnotations(annotatedClass, classBuilderMapping);
+                    } else {
+                        addConstructorAnnotations(annotatedClass, classBuilderMapping);
+                    }
+                });
     }
 
-    private void addBuilderAnnotations(AnnotatedClass annotatedClass, ClassMappingInternal<Object> classMapping) {
-        classMapping.getClassBuilderCriteriaOpt()
-                .ifPresent(classBuilderCriteria -> classBuilderFinder.find(classMapping, classBuilderCriteria)
-                        .ifPresent(classBuilderMapping -> {
-                            if (classBuilderMapping.isStaticFactory()) {
-                                addStaticFactoryAnnotations(annotatedClass, classBuilderMapping);
-                            } else {
-                                addConstructorAnnotations(annotatedClass, classBuilderMapping);
-                            }
-                        }));
+    /**
+     * To call after field annotations are resolved, the parameters are matched with mapped fields
+     */
+    public Optional<ClassBuilderMapping> getClassBuilderMapping(JacksonOperation operation, ClassMappingInternal<Object> classMapping) {
+        return classMapping.getClassBuilderCriteriaOpt()
+                .flatMap(classBuilderCriteria -> classBuilderFinder.find(operation, classMapping, classBuilderCriteria));
     }
 
     private void addStaticFactoryAnnotations(AnnotatedClass annotatedClass, ClassBuilderMapping classBuilderMapping) {
@@ -0,0 +1,167 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.cache;
+
+import com.github.mrenou.jacksonatic.SerializedFormCacheStats;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serialized forms of the instances of a type, found by identity of the instance.
+ * <p>
+ * Each form is kept with the serialization config and the generator features it was written with: a form is only found
+ * with the same config instance and features, else it is replaced by the next put.
+ * <p>
+ * Instances are held by weak references, the forms of collected instances are removed on the next put. The cache is
+ * cleared when full.
+ */
+class SerializedFormCache {
+
+    private final int maxSize;
+
+    private final Map<IdentityKey, Form> forms = new ConcurrentHashMap<>();
+
+    private final ReferenceQueue<Object> collectedInstances = new ReferenceQueue<>();
+
+    private final AtomicLong hits;
+
+    private final AtomicLong misses;
+
+    SerializedFormCache(int maxSize) {
+        this(maxSize, new AtomicLong(), new AtomicLong());
+    }
+
+    /**
+     * @param hits counter of hits, shared with the other caches of the type
+     * @param misses counter of misses, shared with the other caches of the type
+     */
+    SerializedFormCache(int maxSize, AtomicLong hits, AtomicLong misses) {
+        this.maxSize = maxSize;
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    byte[] get(Object instance, Object config, int generatorFeatures) {
+        Form form = forms.get(new LookupKey(instance));
+        byte[] bytes = form != null && form.config == config && form.generatorFeatures == generatorFeatures ? form.bytes : null;
+        (bytes == null ? misses : hits).incrementAndGet();
+        return bytes;
+    }
+
+    void put(Object instance, Object config, int generatorFeatures, byte[] bytes) {
+        Reference<?> collected;
+        while ((collected = collectedInstances.poll()) != null) {
+            forms.remove(collected);
+        }
+        if (forms.size() >= maxSize) {
+            forms.clear();
+        }
+        forms.put(new WeakKey(instance, collectedInstances), new Form(config, generatorFeatures, bytes));
+    }
+
+    int size() {
+        return forms.size();
+    }
+
+    SerializedFormCacheStats getStats() {
+        return new SerializedFormCacheStats(hits.get(), misses.get(), forms.size());
+    }
+
+    private static class Form {
+
+        private final Object config;
+
+        private final int generatorFeatures;
+
+        private final byte[] bytes;
+
+        Form(Object config, int generatorFeatures, byte[] bytes) {
+            this.config = config;
+            this.generatorFeatures = generatorFeatures;
+            this.bytes = bytes;
+        }
+    }
+
+    private interface IdentityKey {
+
+        Object instance();
+    }
+
+    private static boolean sameInstance(IdentityKey key, Object other) {
+        if (key == other) {
+            return true;
+        }
+        if (!(other instanceof IdentityKey)) {
+            return false;
+        }
+        Object instance = key.instance();
+        return instance != null && instance == ((IdentityKey) other).instance();
+    }
+
+    private static class WeakKey extends WeakReference<Object> implements IdentityKey {
+
+        private final int hash;
+
+        WeakKey(Object instance, ReferenceQueue<Object> queue) {
+            super(instance, queue);
+            this.hash = System.identityHashCode(instance);
+        }
+
+        @Override
+        public Object instance() {
+            return get();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return sameInstance(this, o);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static class LookupKey implements IdentityKey {
+
+        private final Object instance;
+
+        LookupKey(Object instance) {
+            this.instance = instance;
+        }
+
+        @Override
+        public Object instance() {
+            return instance;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return sameInstance(this, o);
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(instance);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.cache;
+
+import com.github.mrenou.jacksonatic.SerializedFormCacheStats;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches of serialized forms created for the object mappers a mapping snapshot is registered in, by type.
+ * <p>
+ * Hits and misses of the caches of a type are counted together. The caches are held by weak references, so the caches
+ * of an object mapper are collected with its serializers and the snapshot keeps no object mapper alive.
+ */
+public class SerializedFormCaches {
+
+    private final int cacheSize;
+
+    private final Map<Class<?>, TypeCaches> cachesByType = new ConcurrentHashMap<>();
+
+    public SerializedFormCaches(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    SerializedFormCache newCache(Class<?> type) {
+        return cachesByType.computeIfAbsent(type, key -> new TypeCaches()).newCache(cacheSize);
+    }
+
+    /**
+     * @return statistics of the caches of the type, empty if no instance of the type was written
+     */
+    public SerializedFormCacheStats getStats(Class<?> type) {
+        TypeCaches typeCaches = cachesByType.get(type);
+        return typeCaches == null ? new SerializedFormCacheStats(0, 0, 0) : typeCaches.getStats();
+    }
+
+    private static class TypeCaches {
+
+        private final AtomicLong hits = new AtomicLong();
+
+        private final AtomicLong misses = new AtomicLong();
+
+        private final List<WeakReference<SerializedFormCache>> caches = new ArrayList<>();
+
+        synchronized SerializedFormCache newCache(int cacheSize) {
+            caches.removeIf(cache -> cache.get() == null);
+            SerializedFormCache cache = new SerializedFormCache(cacheSize, hits, misses);
+            caches.add(new WeakReference<>(cache));
+            return cache;
+        }
+
+        synchronized SerializedFormCacheStats getStats() {
+            int size = 0;
+            for (WeakReference<SerializedFormCache> reference : caches) {
+                SerializedFormCache cache = reference.get();
+                if (cache != null) {
+                    size += cache.size();
+                }
+            }
+            return new SerializedFormCacheStats(hits.get(), misses.get(), size);
+        }
+    }
+}
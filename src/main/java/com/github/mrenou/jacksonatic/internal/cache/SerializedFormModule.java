@@ -0,0 +1,79 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.cache;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.github.mrenou.jacksonatic.internal.introspection.AnnotatedClassConstructor;
+import com.github.mrenou.jacksonatic.internal.mapping.ClassMappingInternal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.github.mrenou.jacksonatic.internal.JacksonOperation.SERIALIZATION;
+
+/**
+ * Wrap the bean serializers of the classes mapped with a cached serialized form in serializers writing the form of
+ * each instance from a cache.
+ * <p>
+ * A module is registered for each registration of a mapping, so each object mapper has its own caches. The caches of
+ * a class are created on the first use, from the {@link SerializedFormCaches} of the snapshot.
+ */
+public class SerializedFormModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient AnnotatedClassConstructor annotatedClassConstructor;
+
+    private final transient SerializedFormCaches serializedFormCaches;
+
+    private final transient Map<Class<?>, SerializedFormCache> caches = new ConcurrentHashMap<>();
+
+    public SerializedFormModule(AnnotatedClassConstructor annotatedClassConstructor, SerializedFormCaches serializedFormCaches) {
+        super("JacksonaticSerializedFormModule");
+        this.annotatedClassConstructor = annotatedClassConstructor;
+        this.serializedFormCaches = serializedFormCaches;
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc, JsonSerializer<?> serializer) {
+                return cacheSerializedForm(beanDesc.getBeanClass(), serializer);
+            }
+        });
+    }
+
+    @Override
+    public Object getTypeId() {
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private JsonSerializer<?> cacheSerializedForm(Class<?> beanClass, JsonSerializer<?> serializer) {
+        if (beanClass.getName().startsWith("java.")) {
+            return serializer;
+        }
+        boolean cachesSerializedForm = annotatedClassConstructor.getMergedClassMapping(SERIALIZATION, (Class<Object>) beanClass)
+                .map(ClassMappingInternal::cachesSerializedForm)
+                .orElse(false);
+        if (!cachesSerializedForm) {
+            return serializer;
+        }
+        SerializedFormCache cache = caches.computeIfAbsent(beanClass, serializedFormCaches::newCache);
+        return new SerializedFormSerializer((JsonSerializer<Object>) serializer, cache, () -> serializedFormCaches.newCache(beanClass));
+    }
+}
@@ -0,0 +1,151 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.cache;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+import com.github.mrenou.jacksonatic.internal.raw.RawJsonBytes;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ * Write an instance from its cached serialized form, serializing it with the bean serializer the first time.
+ * <p>
+ * Only JSON generators without pretty printer use the cache, and only without serialization view nor filter provider,
+ * which may change the properties written. A form is reused when written with the same serialization config instance,
+ * the one of the object mapper or of an object writer, and the same generator features. Values written with their type id or unwrapped are written by the bean serializer. The serializer customized
+ * for a property is wrapped too, with its own cache since its forms may differ.
+ */
+class SerializedFormSerializer extends JsonSerializer<Object> implements ContextualSerializer, ResolvableSerializer {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final JsonGenerator.Feature[] GENERATOR_FEATURES = JsonGenerator.Feature.values();
+
+    private final JsonSerializer<Object> serializer;
+
+    private final SerializedFormCache cache;
+
+    private final Supplier<SerializedFormCache> cacheFactory;
+
+    /**
+     * @param cacheFactory creates the caches of the serializers customized for a property
+     */
+    SerializedFormSerializer(JsonSerializer<Object> serializer, SerializedFormCache cache, Supplier<SerializedFormCache> cacheFactory) {
+        this.serializer = serializer;
+        this.cache = cache;
+        this.cacheFactory = cacheFactory;
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (!(gen instanceof JsonGeneratorImpl) || gen.getPrettyPrinter() != null
+                || provider.getActiveView() != null || provider.getFilterProvider() != null) {
+            serializer.serialize(value, gen, provider);
+            return;
+        }
+        SerializationConfig config = provider.getConfig();
+        int generatorFeatures = gen.getFeatureMask();
+        byte[] form = cache.get(value, config, generatorFeatures);
+        if (form == null) {
+            form = serializeForm(value, gen, provider);
+            cache.put(value, config, generatorFeatures, form);
+        }
+        gen.writeRawValue(new RawJsonBytes(form));
+    }
+
+    private byte[] serializeForm(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        ByteArrayBuilder bytes = new ByteArrayBuilder();
+        try (JsonGenerator formGenerator = JSON_FACTORY.createGenerator(bytes)) {
+            formGenerator.setCodec(gen.getCodec());
+            for (JsonGenerator.Feature feature : GENERATOR_FEATURES) {
+                formGenerator.configure(feature, gen.isEnabled(feature));
+            }
+            formGenerator.setCharacterEscapes(gen.getCharacterEscapes());
+            formGenerator.setHighestNonEscapedChar(gen.getHighestEscapedChar());
+            serializer.serialize(value, formGenerator, provider);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public void serializeWithType(Object value, JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer) throws IOException {
+        serializer.serializeWithType(value, gen, provider, typeSer);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property) throws JsonMappingException {
+        if (serializer instanceof ContextualSerializer) {
+            JsonSerializer<?> contextualSerializer = ((ContextualSerializer) serializer).createContextual(prov, property);
+            if (contextualSerializer != serializer) {
+                return new SerializedFormSerializer((JsonSerializer<Object>) contextualSerializer, cacheFactory.get(), cacheFactory);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        if (serializer instanceof ResolvableSerializer) {
+            ((ResolvableSerializer) serializer).resolve(provider);
+        }
+    }
+
+    @Override
+    public JsonSerializer<Object> unwrappingSerializer(NameTransformer unwrapper) {
+        return serializer.unwrappingSerializer(unwrapper);
+    }
+
+    @Override
+    public boolean isEmpty(SerializerProvider provider, Object value) {
+        return serializer.isEmpty(provider, value);
+    }
+
+    @Override
+    public boolean usesObjectId() {
+        return serializer.usesObjectId();
+    }
+
+    @Override
+    public Class<Object> handledType() {
+        return serializer.handledType();
+    }
+
+    @Override
+    public JsonSerializer<?> getDelegatee() {
+        return serializer;
+    }
+
+    @Override
+    public void acceptJsonFormatVisitor(JsonFormatVisitorWrapper visitor, JavaType type) throws JsonMappingException {
+        serializer.acceptJsonFormatVisitor(visitor, type);
+    }
+}
@@ -16,9 +16,11 @@
 package com.github.mrenou.jacksonatic.internal.introspection;
 
 import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.cfg.MapperConfigBase;
 import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
 import com.fasterxml.jackson.databind.introspect.ClassIntrospector;
 import com.fasterxml.jackson.databind.util.ClassUtil;
+import com.fasterxml.jackson.databind.util.LRUMap;
 import com.github.mrenou.jacksonatic.internal.JacksonOperation;
 import com.github.mrenou.jacksonatic.internal.JacksonaticInternal;
 import com.github.mrenou.jacksonatic.internal.annotations.ClassAnnotationDecorator;
@@ -28,8 +30,14 @@ import com.github.mrenou.jacksonatic.internal.util.Mergeable;
 import com.github.mrenou.jacksonatic.internal.util.TypedHashMap;
 
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 
 import static com.github.mrenou.jacksonatic.internal.JacksonOperation.*;
@@ -49,7 +57,12 @@ import static com.github.mrenou.jacksonatic.internal.JacksonOperation.*;
  * {@link com.github.mrenou.jacksonatic.internal.JacksonOperation#NO_SUPER_TYPES}). Child class mapping override parent class mapping.
  * <p>
  * When final class mapping is built from all these class mapping, it is saved into {@link #mergedClassesMappingByOperation } to
- * avoid a re-computation.
+ * avoid a re-computation. Jackson introspects classes from any thread, so each final class mapping is computed once
+ * in a concurrent map, and read without lock once computed. The mapping of a class without its super types is saved
+ * apart, into {@link #ownClassesMappingByOperation}, to be shared by all its sub types.
+ * <p>
+ * A decorated class is saved into {@link #annotatedClasses}, so the fields, methods and creators of a mapped class are
+ * only walked once for an operation, an annotation introspector and the mix-ins of the class and its super types.
  */
 public class AnnotatedClassConstructor {
 
@@ -57,76 +70,188 @@ public class AnnotatedClassConstructor {
 
     private TypedHashMap<JacksonOperation, ClassesMapping> classesMappingByOperation = new TypedHashMap<>();
 
-    private TypedHashMap<JacksonOperation, ClassesMapping> mergedClassesMappingByOperation = new TypedHashMap<>();
+    private final Map<JacksonOperation, Map<Class<Object>, Optional<ClassMappingInternal<Object>>>> mergedClassesMappingByOperation = new EnumMap<>(JacksonOperation.class);
+
+    private final Map<JacksonOperation, Map<Class<Object>, Optional<ClassMappingInternal<Object>>>> ownClassesMappingByOperation = new EnumMap<>(JacksonOperation.class);
+
+    private final LRUMap<AnnotatedClassKey, AnnotatedClass> annotatedClasses;
+
+    /**
+     * The class, its super types and {@link Object}, by class: the types whose mix-ins are part of the key of a
+     * decorated class
+     */
+    private final Map<Class<?>, Class<?>[]> mixInTargets = new ConcurrentHashMap<>();
 
     public AnnotatedClassConstructor(JacksonaticInternal mappingConfigurer) {
         this.classesMappingByOperation = mappingConfigurer.getClassesMappingByOperation().copy();
-        this.mergedClassesMappingByOperation.put(JacksonOperation.SERIALIZATION, new ClassesMapping());
-        this.mergedClassesMappingByOperation.put(JacksonOperation.DESERIALIZATION, new ClassesMapping());
-        this.mergedClassesMappingByOperation.put(JacksonOperation.NO_SUPER_TYPES, new ClassesMapping());
+        // class mappings are copied and merged from any thread afterwards
+        this.classesMappingByOperation.values().forEach(classesMapping -> {
+            classesMapping.freeze();
+            classesMapping.values().forEach(ClassMappingInternal::freeze);
+        });
+        this.annotatedClasses = new LRUMap<>(16, mappingConfigurer.getOptions().annotatedClassCacheSize());
+        this.mergedClassesMappingByOperation.put(SERIALIZATION, new ConcurrentHashMap<>());
+        this.mergedClassesMappingByOperation.put(DESERIALIZATION, new ConcurrentHashMap<>());
+        this.mergedClassesMappingByOperation.put(NO_SUPER_TYPES, new ConcurrentHashMap<>());
+        this.ownClassesMappingByOperation.put(SERIALIZATION, new ConcurrentHashMap<>());
+        this.ownClassesMappingByOperation.put(DESERIALIZATION, new ConcurrentHashMap<>());
     }
 
     public AnnotatedClass constructForSerialization(Class<?> cls, AnnotationIntrospector annotationIntrospector, ClassIntrospector.MixInResolver mir) {
-        AnnotatedClass annotatedClass = AnnotatedClass.construct(cls, annotationIntrospector, mir);
-        return processAnnotatedClass(JacksonOperation.SERIALIZATION, annotatedClass);
+        return construct(SERIALIZATION, cls, annotationIntrospector, mir);
     }
 
     public AnnotatedClass constructForDeserialization(Class<?> cls, AnnotationIntrospector annotationIntrospector, ClassIntrospector.MixInResolver mir) {
-        AnnotatedClass annotatedClass = AnnotatedClass.construct(cls, annotationIntrospector, mir);
-        return processAnnotatedClass(JacksonOperation.DESERIALIZATION, annotatedClass);
+        return construct(DESERIALIZATION, cls, annotationIntrospector, mir);
     }
 
     public AnnotatedClass constructWithoutSuperTypes(Class<?> cls, AnnotationIntrospector annotationIntrospector, ClassIntrospector.MixInResolver mir) {
-        AnnotatedClass annotatedClass = AnnotatedClass.construct(cls, annotationIntrospector, mir);
-        return processAnnotatedClass(JacksonOperation.NO_SUPER_TYPES, annotatedClass);
+        return construct(NO_SUPER_TYPES, cls, annotationIntrospector, mir);
     }
 
     @SuppressWarnings("unchecked")
-    private AnnotatedClass processAnnotatedClass(JacksonOperation processType, AnnotatedClass ac) {
-        if (ac.getAnnotated().getName().startsWith("java.")) {
-            return ac;
+    private AnnotatedClass construct(JacksonOperation processType, Class<?> cls, AnnotationIntrospector annotationIntrospector, ClassIntrospector.MixInResolver mir) {
+        if (cls.getName().startsWith("java.")) {
+            return AnnotatedClass.construct(cls, annotationIntrospector, mir);
+        }
+        Optional<ClassMappingInternal<Object>> classMappingOpt = getMergedClassMapping(processType, (Class<Object>) cls);
+        if (!classMappingOpt.isPresent()) {
+            return AnnotatedClass.construct(cls, annotationIntrospector, mir);
+        }
+        AnnotatedClassKey key = new AnnotatedClassKey(processType, cls, annotationIntrospector, findMixIns(cls, mir));
+        AnnotatedClass annotatedClass = annotatedClasses.get(key);
+        if (annotatedClass == null) {
+            // decoration only reads the class mapping, when several threads decorate a same class the first one is kept
+            ClassMappingInternal<Object> creatorClassMapping = processType == DESERIALIZATION ? classMappingOpt.get() :
+                    getMergedClassMapping(DESERIALIZATION, (Class<Object>) cls).orElse(classMappingOpt.get());
+            annotatedClass = classAnnotationDecorator.decorate(processType, AnnotatedClass.construct(cls, annotationIntrospector, mir), classMappingOpt.get(), creatorClassMapping);
+            resolveAll(annotatedClass);
+            AnnotatedClass decoratedClass = annotatedClasses.putIfAbsent(key, annotatedClass);
+            if (decoratedClass != null) {
+                annotatedClass = decoratedClass;
+            }
+        }
+        return annotatedClass;
+    }
+
+    /**
+     * @return mix-ins of the class, of each of its super types and of {@link Object}, null if there is no mix-in
+     * resolver or no mix-in at all
+     */
+    private Class<?>[] findMixIns(Class<?> cls, ClassIntrospector.MixInResolver mir) {
+        if (mir == null || (mir instanceof MapperConfigBase && ((MapperConfigBase<?, ?>) mir).mixInCount() == 0)) {
+            return null;
+        }
+        Class<?>[] targets = mixInTargets.get(cls);
+        if (targets == null) {
+            targets = mixInTargets.computeIfAbsent(cls, AnnotatedClassConstructor::findMixInTargets);
+        }
+        Class<?>[] mixIns = new Class<?>[targets.length];
+        for (int i = 0; i < targets.length; i++) {
+            mixIns[i] = mir.findMixInClassFor(targets[i]);
+        }
+        return mixIns;
+    }
+
+    private static Class<?>[] findMixInTargets(Class<?> cls) {
+        List<Class<?>> superTypes = ClassUtil.findSuperTypes(cls, null);
+        Class<?>[] targets = new Class<?>[superTypes.size() + 2];
+        targets[0] = cls;
+        for (int i = 0; i < superTypes.size(); i++) {
+            targets[i + 1] = superTypes.get(i);
+        }
+        targets[targets.length - 1] = Object.class;
+        return targets;
+    }
+
+    /**
+     * Annotated class resolves its members lazily, it is fully resolved before being shared.
+     */
+    private void resolveAll(AnnotatedClass annotatedClass) {
+        annotatedClass.getConstructors();
+        annotatedClass.memberMethods();
+        annotatedClass.fields();
+    }
+
+    /**
+     * @return the class mapping of the type for the operation, merged with mapping of its super types, computed once
+     */
+    public Optional<ClassMappingInternal<Object>> getMergedClassMapping(JacksonOperation processType, Class<Object> type) {
+        Map<Class<Object>, Optional<ClassMappingInternal<Object>>> mergedClassesMapping = mergedClassesMappingByOperation.get(processType);
+        Optional<ClassMappingInternal<Object>> classMappingOpt = mergedClassesMapping.get(type);
+        if (classMappingOpt == null) {
+            classMappingOpt = mergedClassesMapping.computeIfAbsent(type, key -> mergeClassMapping(processType, key));
         }
-        Class<Object> annotated = (Class<Object>) ac.getAnnotated();
-        ClassesMapping serOrDeserClassesMapping = getSerOrDeserClassMapping(processType);
-        ClassesMapping mergedClassesMapping = this.mergedClassesMappingByOperation.getTyped(processType);
+        return classMappingOpt;
+    }
+
+    /**
+     * Merge the class mapping of each mapped class for serialization and for deserialization, splitting the classes
+     * between the threads of a fork join pool.
+     *
+     * @return the number of merged class mappings
+     */
+    public int resolveMergedClassMappings(int parallelism) {
+        Set<Class<Object>> types = new HashSet<>();
+        classesMappingByOperation.values().forEach(classesMapping -> types.addAll(classesMapping.keySet()));
+        ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism);
+        try {
+            forkJoinPool.submit(() -> types.parallelStream().forEach(type -> {
+                getMergedClassMapping(SERIALIZATION, type);
+                getMergedClassMapping(DESERIALIZATION, type);
+            })).join();
+        } finally {
+            forkJoinPool.shutdown();
+        }
+        return types.size() * 2;
+    }
 
-        return Optional.ofNullable(mergedClassesMapping.getOpt(annotated)
-                .orElseGet(() -> mergeAndPutInMergedClassesMapping(mergedClassesMapping, annotated,
-                        serOrDeserClassesMapping.getOpt(annotated),
-                        classesMappingByOperation.get(ANY).getOpt(annotated),
-                        getClassMappingFromSuperTypes(annotated, serOrDeserClassesMapping, mergedClassesMapping))))
-                .map(classMapping -> classAnnotationDecorator.decorate(ac, classMapping))
-                .orElse(ac);
+    private Optional<ClassMappingInternal<Object>> mergeClassMapping(JacksonOperation processType, Class<Object> type) {
+        JacksonOperation serOrDeser = getSerOrDeser(processType);
+        return withType(type, Mergeable.merge(
+                serOrDeserClassMapping(serOrDeser, type),
+                classesMappingByOperation.get(ANY).getOpt(type),
+                getClassMappingFromSuperTypes(serOrDeser, type)))
+                .map(ClassMappingInternal::copy);
     }
 
     @SuppressWarnings("unchecked")
-    private Optional<ClassMappingInternal<Object>> getClassMappingFromSuperTypes(Class<?> type, ClassesMapping serOrDeserClassesMapping, ClassesMapping mergedClassesMapping) {
+    private Optional<ClassMappingInternal<Object>> getClassMappingFromSuperTypes(JacksonOperation serOrDeser, Class<?> type) {
         List<Class<?>> superTypes = ClassUtil.findSuperTypes(type, Object.class);
         Collections.reverse(superTypes);
         return Stream.concat(Stream.of(Object.class), superTypes.stream())
-                .map(superType -> (Class<Object>) superType)
-                .map(superType -> Optional.ofNullable(
-                                mergedClassesMapping.getOpt(superType)
-                                        .orElseGet(() -> mergeAndPutInMergedClassesMapping(mergedClassesMapping, superType,
-                                                serOrDeserClassesMapping.getOpt(superType),
-                                                classesMappingByOperation.get(ANY).getOpt(superType))))
-                )
+                .map(superType -> getOwnClassMapping(serOrDeser, (Class<Object>) superType))
                 .reduce(Optional.empty(), Mergeable::merge);
     }
 
-    @SafeVarargs
-    private final ClassMappingInternal<Object> mergeAndPutInMergedClassesMapping(ClassesMapping mergedClassesMapping, Class<Object> superType, Optional<ClassMappingInternal<Object>>... classMappings) {
-        Optional<ClassMappingInternal<Object>> classMappingOpt = Mergeable.merge(classMappings)
-                .map(classMapping -> classMapping.getType() != superType ? new ClassMappingInternal<>(superType).mergeWith(classMapping) : classMapping);
-        classMappingOpt.ifPresent(classMapping -> mergedClassesMapping.put(superType, classMapping));
-        return classMappingOpt.orElse(null);
+    private Optional<ClassMappingInternal<Object>> getOwnClassMapping(JacksonOperation serOrDeser, Class<Object> type) {
+        Map<Class<Object>, Optional<ClassMappingInternal<Object>>> ownClassesMapping = ownClassesMappingByOperation.get(serOrDeser);
+        Optional<ClassMappingInternal<Object>> classMappingOpt = ownClassesMapping.get(type);
+        if (classMappingOpt == null) {
+            classMappingOpt = ownClassesMapping.computeIfAbsent(type, key -> withType(key, Mergeable.merge(
+                    serOrDeserClassMapping(serOrDeser, key),
+                    classesMappingByOperation.get(ANY).getOpt(key))));
+        }
+        return classMappingOpt;
+    }
+
+    private Optional<ClassMappingInternal<Object>> serOrDeserClassMapping(JacksonOperation serOrDeser, Class<Object> type) {
+        return classesMappingByOperation.get(serOrDeser).getOpt(type);
+    }
+
+    private Optional<ClassMappingInternal<Object>> withType(Class<Object> type, Optional<ClassMappingInternal<Object>> classMappingOpt) {
+        return classMappingOpt.map(classMapping -> classMapping.getType() != type ? new ClassMappingInternal<>(type).mergeWith(classMapping) : classMapping);
+    }
+
+    public TypedHashMap<JacksonOperation, ClassesMapping> getClassesMappingByOperation() {
+        return classesMappingByOperation;
     }
 
-    private ClassesMapping getSerOrDeserClassMapping(JacksonOperation processType) {
-        if (processType == JacksonOperation.SERIALIZATION || processType == JacksonOperation.NO_SUPER_TYPES) {
-            return classesMappingByOperation.get(SERIALIZATION);
+    private JacksonOperation getSerOrDeser(JacksonOperation processType) {
+        if (processType == SERIALIZATION || processType == NO_SUPER_TYPES) {
+            return SERIALIZATION;
         } else {
-            return classesMappingByOperation.get(DESERIALIZATION);
+            return DESERIALIZATION;
         }
     }
 }
@@ -0,0 +1,64 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.introspection;
+
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.github.mrenou.jacksonatic.internal.JacksonOperation;
+
+import java.util.Arrays;
+
+/**
+ * Key of a decorated {@link com.fasterxml.jackson.databind.introspect.AnnotatedClass}.
+ * <p>
+ * Annotation introspector is compared by identity. The mix-ins are the ones of the class and of each of its super types,
+ * as they are all applied to the annotated class.
+ */
+class AnnotatedClassKey {
+
+    private final JacksonOperation operation;
+
+    private final Class<?> type;
+
+    private final AnnotationIntrospector annotationIntrospector;
+
+    private final Class<?>[] mixIns;
+
+    private final int hashCode;
+
+    AnnotatedClassKey(JacksonOperation operation, Class<?> type, AnnotationIntrospector annotationIntrospector, Class<?>[] mixIns) {
+        this.operation = operation;
+        this.type = type;
+        this.annotationIntrospector = annotationIntrospector;
+        this.mixIns = mixIns;
+        this.hashCode = 31 * (31 * (31 * operation.hashCode() + type.hashCode()) + System.identityHashCode(annotationIntrospector)) + Arrays.hashCode(mixIns);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AnnotatedClassKey that = (AnnotatedClassKey) o;
+        return operation == that.operation
+                && type == that.type
+                && annotationIntrospector == that.annotationIntrospector
+                && Arrays.equals(mixIns, that.mixIns);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
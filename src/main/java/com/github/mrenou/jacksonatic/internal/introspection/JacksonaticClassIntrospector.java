@@ -23,18 +23,38 @@ import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
 import com.fasterxml.jackson.databind.introspect.BasicBeanDescription;
 import com.fasterxml.jackson.databind.introspect.BasicClassIntrospector;
 import com.fasterxml.jackson.databind.introspect.POJOPropertiesCollector;
-import com.github.mrenou.jacksonatic.internal.JacksonaticInternal;
+import com.fasterxml.jackson.databind.util.LRUMap;
+import com.github.mrenou.jacksonatic.JacksonaticOptions;
+
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Customized class introspector to use our own {@link com.fasterxml.jackson.databind.introspect.AnnotatedClass}
  * construction.
+ * <p>
+ * Descriptions without super types, asked by the callers of
+ * {@link MapperConfig#introspectDirectClassAnnotations(JavaType)}, are cached in {@link #_cachedFDCA} like
+ * descriptions of class annotations are cached in {@link #_cachedFCA}. Jackson 2.5 itself doesn't ask for them to
+ * resolve polymorphic types.
  */
 public class JacksonaticClassIntrospector extends BasicClassIntrospector {
 
     private AnnotatedClassConstructor annotatedClassConstructor;
 
-    public void register(JacksonaticInternal mappingConfigurer) {
-        annotatedClassConstructor = new AnnotatedClassConstructor(mappingConfigurer);
+    private final LRUMap<JavaType, BasicBeanDescription> _cachedFDCA;
+
+    private final AtomicLong directClassAnnotationsCacheHits = new AtomicLong();
+
+    private final AtomicLong directClassAnnotationsCacheMisses = new AtomicLong();
+
+    public JacksonaticClassIntrospector(JacksonaticOptions options) {
+        _cachedFDCA = new LRUMap<>(16, options.annotatedClassCacheSize());
+    }
+
+    public void register(AnnotatedClassConstructor annotatedClassConstructor) {
+        this.annotatedClassConstructor = annotatedClassConstructor;
+        _cachedFCA.clear();
+        _cachedFDCA.clear();
     }
 
     @Override
@@ -57,15 +77,30 @@ public class JacksonaticClassIntrospector extends BasicClassIntrospector {
     public BasicBeanDescription forDirectClassAnnotations(MapperConfig<?> cfg, JavaType type, MixInResolver r) {
         BasicBeanDescription desc = _findStdTypeDesc(type);
         if (desc == null) {
-            boolean useAnnotations = cfg.isAnnotationProcessingEnabled();
-            AnnotationIntrospector ai = cfg.getAnnotationIntrospector();
-            AnnotatedClass ac = annotatedClassConstructor.constructWithoutSuperTypes(type.getRawClass(),
-                    (useAnnotations ? ai : null), r);
-            desc = BasicBeanDescription.forOtherUse(cfg, type, ac);
+            desc = _cachedFDCA.get(type);
+            if (desc == null) {
+                directClassAnnotationsCacheMisses.incrementAndGet();
+                boolean useAnnotations = cfg.isAnnotationProcessingEnabled();
+                AnnotationIntrospector ai = cfg.getAnnotationIntrospector();
+                AnnotatedClass ac = annotatedClassConstructor.constructWithoutSuperTypes(type.getRawClass(),
+                        (useAnnotations ? ai : null), r);
+                desc = BasicBeanDescription.forOtherUse(cfg, type, ac);
+                _cachedFDCA.put(type, desc);
+            } else {
+                directClassAnnotationsCacheHits.incrementAndGet();
+            }
         }
         return desc;
     }
 
+    public long getDirectClassAnnotationsCacheHits() {
+        return directClassAnnotationsCacheHits.get();
+    }
+
+    public long getDirectClassAnnotationsCacheMisses() {
+        return directClassAnnotationsCacheMisses.get();
+    }
+
     @Override
     protected POJOPropertiesCollector collectProperties(MapperConfig<?> config, JavaType type, MixInResolver r, boolean forSerialization, String mutatorPrefix) {
         boolean useAnnotations = config.isAnnotationProcessingEnabled();
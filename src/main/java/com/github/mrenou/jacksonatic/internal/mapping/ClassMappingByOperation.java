@@ -90,6 +90,18 @@ public class ClassMappingByOperation<T> implements ClassMapping<T> {
         return this;
     }
 
+    @Override
+    public ClassMapping<T> mapRaw(String fieldName) {
+        currentClassMapping.mapRaw(fieldName);
+        return this;
+    }
+
+    @Override
+    public ClassMapping<T> mapRaw(String fieldName, String jsonProperty) {
+        currentClassMapping.mapRaw(fieldName, jsonProperty);
+        return this;
+    }
+
     @Override
     public ClassMapping<T> ignore(String fieldName) {
         currentClassMapping.ignore(fieldName);
@@ -120,6 +132,24 @@ public class ClassMappingByOperation<T> implements ClassMapping<T> {
         return this;
     }
 
+    @Override
+    public ClassMapping<T> creatorPropertiesFirst() {
+        currentClassMapping.creatorPropertiesFirst();
+        return this;
+    }
+
+    @Override
+    public ClassMapping<T> asArray() {
+        currentClassMapping.asArray();
+        return this;
+    }
+
+    @Override
+    public ClassMapping<T> cacheSerializedForm() {
+        currentClassMapping.cacheSerializedForm();
+        return this;
+    }
+
     @Override
     public ClassMapping<T> fieldForTypeName(String field) {
         currentClassMapping.fieldForTypeName(field);
@@ -138,6 +168,24 @@ public class ClassMappingByOperation<T> implements ClassMapping<T> {
         return this;
     }
 
+    @Override
+    public ClassMapping<T> compactTypeIds() {
+        currentClassMapping.compactTypeIds();
+        return this;
+    }
+
+    @Override
+    public ClassMapping<T> typeId(Class<? extends T> subType, int id) {
+        currentClassMapping.typeId(subType, id);
+        return this;
+    }
+
+    @Override
+    public ClassMapping<T> typeIdFirst() {
+        currentClassMapping.typeIdFirst();
+        return this;
+    }
+
     @Override
     public ClassMapping<T> mapGetter(String fieldName) {
         currentClassMapping.mapGetter(fieldName);
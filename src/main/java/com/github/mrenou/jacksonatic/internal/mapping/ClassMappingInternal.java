@@ -15,18 +15,31 @@
  */
 package com.github.mrenou.jacksonatic.internal.mapping;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.annotation.JsonTypeResolver;
 import com.github.mrenou.jacksonatic.annotation.JacksonaticJsonSubTypesType;
+import com.github.mrenou.jacksonatic.exception.InvalidTypeIdException;
 import com.github.mrenou.jacksonatic.internal.annotations.Annotations;
 import com.github.mrenou.jacksonatic.internal.mapping.builder.ClassBuilderCriteria;
 import com.github.mrenou.jacksonatic.internal.mapping.field.FieldMappingInternal;
+import com.github.mrenou.jacksonatic.internal.mapping.field.FieldPlan;
+import com.github.mrenou.jacksonatic.internal.mapping.method.MethodMappingIndex;
 import com.github.mrenou.jacksonatic.internal.mapping.method.MethodMappingInternal;
 import com.github.mrenou.jacksonatic.internal.mapping.method.MethodSignature;
+import com.github.mrenou.jacksonatic.internal.polymorphism.CompactTypeIdResolver;
+import com.github.mrenou.jacksonatic.internal.polymorphism.CompactTypeIdFirstResolverBuilder;
+import com.github.mrenou.jacksonatic.internal.polymorphism.CompactTypeResolverBuilder;
+import com.github.mrenou.jacksonatic.internal.polymorphism.TypeIdFirstResolverBuilder;
+import com.github.mrenou.jacksonatic.internal.polymorphism.TypeIdFirstTableResolverBuilder;
+import com.github.mrenou.jacksonatic.internal.raw.RawJsonDeserializer;
+import com.github.mrenou.jacksonatic.internal.raw.RawJsonSerializer;
 import com.github.mrenou.jacksonatic.internal.util.Copyable;
 import com.github.mrenou.jacksonatic.internal.util.CopyableMergeableHashMap;
 import com.github.mrenou.jacksonatic.internal.util.Mergeable;
 import com.github.mrenou.jacksonatic.internal.util.StringUtil;
+import com.github.mrenou.jacksonatic.mapping.FieldMapping;
 import com.github.mrenou.jacksonatic.mapping.MethodMapping;
 
 import java.util.ArrayList;
@@ -34,9 +47,13 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import static com.github.mrenou.jacksonatic.annotation.JacksonaticJsonDeserialize.jsonDeserialize;
+import static com.github.mrenou.jacksonatic.annotation.JacksonaticJsonFormat.jsonFormat;
+import static com.github.mrenou.jacksonatic.annotation.JacksonaticJsonSerialize.jsonSerialize;
 import static com.github.mrenou.jacksonatic.annotation.JacksonaticJsonSubTypes.jsonSubTypes;
 import static com.github.mrenou.jacksonatic.annotation.JacksonaticJsonTypeInfo.jsonTypeInfo;
 import static com.github.mrenou.jacksonatic.annotation.JacksonaticJsonTypeName.jsonTypeName;
+import static com.github.mrenou.jacksonatic.annotation.JacksonaticJsonTypeResolver.jsonTypeResolver;
 import static com.github.mrenou.jacksonatic.internal.mapping.method.MethodSignature.methodSignature;
 import static com.github.mrenou.jacksonatic.internal.mapping.method.MethodSignature.methodSignatureIgnoringParameters;
 import static com.github.mrenou.jacksonatic.internal.util.StringUtil.firstToUpperCase;
@@ -54,6 +71,10 @@ public class ClassMappingInternal<T> implements HasAnnotationsInternal<ClassMapp
 
     private boolean mapAllFields;
 
+    private boolean creatorPropertiesFirst;
+
+    private boolean cacheSerializedForm;
+
     private Optional<ClassBuilderCriteria> classBuilderCriteriaOpt;
 
     private CopyableMergeableHashMap<String, FieldMappingInternal> fieldsMapping;
@@ -62,24 +83,28 @@ public class ClassMappingInternal<T> implements HasAnnotationsInternal<ClassMapp
 
     private Annotations annotations;
 
-    private TypeChecker<T> typeChecker;
+    private volatile MethodMappingIndex methodMappingIndex;
+
+    private volatile FieldPlan fieldPlan;
 
     public ClassMappingInternal(Class<T> type) {
-        this(type, false, Optional.empty(), new CopyableMergeableHashMap<>(), new CopyableMergeableHashMap<>(), new Annotations(), new TypeChecker<>(type));
+        this(type, false, false, false, Optional.empty(), new CopyableMergeableHashMap<>(), new CopyableMergeableHashMap<>(), new Annotations());
     }
 
-    private ClassMappingInternal(Class<T> type, boolean mapAllFields, Optional<ClassBuilderCriteria> classBuilderCriteriaOpt, CopyableMergeableHashMap<String, FieldMappingInternal> fieldsMapping, CopyableMergeableHashMap<MethodSignature, MethodMappingInternal> methodsMapping, Annotations annotations, TypeChecker<T> typeChecker) {
+    private ClassMappingInternal(Class<T> type, boolean mapAllFields, boolean creatorPropertiesFirst, boolean cacheSerializedForm, Optional<ClassBuilderCriteria> classBuilderCriteriaOpt, CopyableMergeableHashMap<String, FieldMappingInternal> fieldsMapping, CopyableMergeableHashMap<MethodSignature, MethodMappingInternal> methodsMapping, Annotations annotations) {
         this.type = type;
         this.mapAllFields = mapAllFields;
+        this.creatorPropertiesFirst = creatorPropertiesFirst;
+        this.cacheSerializedForm = cacheSerializedForm;
         this.classBuilderCriteriaOpt = classBuilderCriteriaOpt;
         this.fieldsMapping = fieldsMapping;
         this.methodsMapping = methodsMapping;
         this.annotations = annotations;
-        this.typeChecker = typeChecker;
     }
 
     public void mapAllFields() {
         this.mapAllFields = true;
+        fieldPlan = null;
     }
 
     public void ignore(String fieldName) {
@@ -94,15 +119,37 @@ public class ClassMappingInternal<T> implements HasAnnotationsInternal<ClassMapp
         getOrCreateFieldMappingInternal(fieldName).mapTo(mappedName);
     }
 
+    public void mapRaw(String fieldName) {
+        mapRaw(getOrCreateFieldMappingInternal(fieldName).map());
+    }
+
+    public void mapRaw(String fieldName, String mappedName) {
+        mapRaw(getOrCreateFieldMappingInternal(fieldName).mapTo(mappedName));
+    }
+
+    private void mapRaw(FieldMapping fieldMapping) {
+        fieldMapping.add(jsonSerialize().using(RawJsonSerializer.class));
+        fieldMapping.add(jsonDeserialize().using(RawJsonDeserializer.class));
+    }
+
     public void onConstructor(ClassBuilderCriteria classBuilderCriteria) {
         classBuilderCriteriaOpt = Optional.of(classBuilderCriteria);
     }
 
+    public void creatorPropertiesFirst() {
+        this.creatorPropertiesFirst = true;
+    }
+
+    public void cacheSerializedForm() {
+        this.cacheSerializedForm = true;
+    }
+
     public void on(FieldMappingInternal fieldMapping) {
         FieldMappingInternal fieldMappingToStore = fieldsMapping.getOpt(fieldMapping.getName())
                 .map(existingFieldMapping -> fieldMapping.mergeWith(existingFieldMapping))
                 .orElse(fieldMapping);
         fieldsMapping.put(fieldMapping.getName(), fieldMappingToStore);
+        fieldPlan = null;
     }
 
     public void on(MethodMappingInternal methodMapping) {
@@ -110,6 +157,7 @@ public class ClassMappingInternal<T> implements HasAnnotationsInternal<ClassMapp
                 .map(existingMethodMapping -> methodMapping.mergeWith(existingMethodMapping))
                 .orElse(methodMapping);
         methodsMapping.put(methodMapping.getMethodSignature(), methodMappingToStore);
+        methodMappingIndex = null;
     }
 
     public void mapGetter(String fieldName) {
@@ -166,6 +214,18 @@ public class ClassMappingInternal<T> implements HasAnnotationsInternal<ClassMapp
         return this.mapAllFields;
     }
 
+    public boolean writesCreatorPropertiesFirst() {
+        return this.creatorPropertiesFirst;
+    }
+
+    public boolean cachesSerializedForm() {
+        return this.cacheSerializedForm;
+    }
+
+    public void asArray() {
+        annotations.add(jsonFormat().shape(JsonFormat.Shape.ARRAY));
+    }
+
     public void fieldForTypeName(String field) {
         annotations.add(jsonTypeInfo().use(JsonTypeInfo.Id.NAME).property(field));
     }
@@ -175,10 +235,85 @@ public class ClassMappingInternal<T> implements HasAnnotationsInternal<ClassMapp
     }
 
     public void addNamedSubType(Class<? extends T> subType, String name) {
-        List<JsonSubTypes.Type> types = Optional.ofNullable(annotations.get(JsonSubTypes.class))
+        List<JsonSubTypes.Type> types = getSubTypes();
+        String typeName = hasCompactTypeIds() && !CompactTypeIdResolver.isTypeId(name) ? String.valueOf(nextTypeId(types)) : name;
+        types.add(JacksonaticJsonSubTypesType.type(typeName, subType).build());
+        setSubTypes(types);
+    }
+
+    /**
+     * Replace the names of the sub types by compact type ids, given in the order the sub types are added after the
+     * greatest id already given.
+     */
+    public void compactTypeIds() {
+        if (!hasCompactTypeIds()) {
+            annotations.add(jsonTypeResolver(readsTypeIdFirst() ? CompactTypeIdFirstResolverBuilder.class : CompactTypeResolverBuilder.class));
+            List<JsonSubTypes.Type> types = getSubTypes();
+            int nextTypeId = nextTypeId(types);
+            for (int i = 0; i < types.size(); i++) {
+                if (!CompactTypeIdResolver.isTypeId(types.get(i).name())) {
+                    types.set(i, JacksonaticJsonSubTypesType.type(String.valueOf(nextTypeId++), types.get(i).value()).build());
+                }
+            }
+            setSubTypes(types);
+        }
+    }
+
+    public void typeId(Class<? extends T> subType, int id) {
+        if (id < 0 || id > CompactTypeIdResolver.MAX_TYPE_ID) {
+            throw new InvalidTypeIdException(id, CompactTypeIdResolver.MAX_TYPE_ID, type);
+        }
+        compactTypeIds();
+        String typeName = String.valueOf(id);
+        List<JsonSubTypes.Type> types = getSubTypes();
+        types.stream()
+                .filter(existingType -> existingType.name().equals(typeName) && existingType.value() != subType)
+                .findFirst()
+                .ifPresent(existingType -> {
+                    throw new InvalidTypeIdException(id, existingType.value(), type);
+                });
+        types.removeIf(existingType -> existingType.value() == subType);
+        types.add(JacksonaticJsonSubTypesType.type(typeName, subType).build());
+        setSubTypes(types);
+    }
+
+    /**
+     * Read the type id of the objects expecting it in the first property, and report the objects starting with another
+     * property.
+     */
+    public void typeIdFirst() {
+        annotations.add(jsonTypeResolver(hasCompactTypeIds() ? CompactTypeIdFirstResolverBuilder.class : TypeIdFirstResolverBuilder.class));
+    }
+
+    private boolean hasCompactTypeIds() {
+        return getAnnotationOpt(JsonTypeResolver.class)
+                .map(jsonTypeResolver -> CompactTypeResolverBuilder.class.isAssignableFrom(jsonTypeResolver.value()))
+                .orElse(false);
+    }
+
+    public boolean readsTypeIdFirst() {
+        return getAnnotationOpt(JsonTypeResolver.class)
+                .map(jsonTypeResolver -> jsonTypeResolver.value() == TypeIdFirstResolverBuilder.class
+                        || jsonTypeResolver.value() == CompactTypeIdFirstResolverBuilder.class
+                        || jsonTypeResolver.value() == TypeIdFirstTableResolverBuilder.class)
+                .orElse(false);
+    }
+
+    private static int nextTypeId(List<JsonSubTypes.Type> types) {
+        return types.stream()
+                .filter(type -> CompactTypeIdResolver.isTypeId(type.name()))
+                .mapToInt(type -> Integer.parseInt(type.name()) + 1)
+                .max()
+                .orElse(0);
+    }
+
+    private List<JsonSubTypes.Type> getSubTypes() {
+        return Optional.ofNullable(annotations.get(JsonSubTypes.class))
                 .map(annotation -> new ArrayList<>(Arrays.asList(((JsonSubTypes) annotation).value())))
                 .orElse(new ArrayList<>());
-        types.add(JacksonaticJsonSubTypesType.type(name, subType).build());
+    }
+
+    private void setSubTypes(List<JsonSubTypes.Type> types) {
         annotations.add(jsonSubTypes(types.toArray(new JsonSubTypes.Type[types.size()])));
     }
 
@@ -186,6 +321,18 @@ public class ClassMappingInternal<T> implements HasAnnotationsInternal<ClassMapp
         return methodsMapping.getOpt(methodSignature);
     }
 
+    /**
+     * @return index of the method mappings, built on first call after a method mapping is added
+     */
+    public MethodMappingIndex getMethodMappingIndex() {
+        MethodMappingIndex index = methodMappingIndex;
+        if (index == null) {
+            index = MethodMappingIndex.index(methodsMapping);
+            methodMappingIndex = index;
+        }
+        return index;
+    }
+
     public Optional<MethodMappingInternal> getSetterMapping(String fieldName, Class<?> fieldType) {
         return findGetterSetterMapping(methodSignature("set" + StringUtil.firstToUpperCase(fieldName), fieldType));
     }
@@ -202,8 +349,13 @@ public class ClassMappingInternal<T> implements HasAnnotationsInternal<ClassMapp
         return methodMapping;
     }
 
+    public Optional<FieldMappingInternal> getFieldMappingInternalOpt(String name) {
+        return fieldsMapping.getOpt(name);
+    }
+
     public FieldMappingInternal getOrCreateFieldMappingInternal(String name) {
-        FieldMappingInternal fieldMapping = fieldsMapping.get(name);
+        fieldPlan = null;
+        FieldMappingInternal fieldMapping = fieldsMapping.getForUpdate(name, FieldMappingInternal::copy);
         if (fieldMapping == null) {
             fieldMapping = (FieldMappingInternal) field(name);
             fieldsMapping.put(name, fieldMapping);
@@ -212,6 +364,29 @@ public class ClassMappingInternal<T> implements HasAnnotationsInternal<ClassMapp
     }
 
 
+    /**
+     * @return final annotations of the fields, built on first call after a field mapping is changed
+     */
+    public FieldPlan getFieldPlan() {
+        FieldPlan plan = fieldPlan;
+        if (plan == null) {
+            plan = FieldPlan.plan(mapAllFields, fieldsMapping);
+            fieldPlan = plan;
+        }
+        return plan;
+    }
+
+    /**
+     * @return true if the field is mapped, explicitly or with all fields, and not ignored
+     */
+    public boolean isFieldMapped(String fieldName) {
+        return getFieldPlan().isMapped(fieldName);
+    }
+
+    public boolean isEmpty() {
+        return !mapAllFields && !creatorPropertiesFirst && !cacheSerializedForm && !classBuilderCriteriaOpt.isPresent() && fieldsMapping.isEmpty() && methodsMapping.isEmpty() && annotations.isEmpty();
+    }
+
     public Class<T> getType() {
         return type;
     }
@@ -221,6 +396,7 @@ public class ClassMappingInternal<T> implements HasAnnotationsInternal<ClassMapp
     }
 
     public void checkTypes() {
+        TypeChecker<T> typeChecker = new TypeChecker<>(type);
         fieldsMapping.forEach((name, fieldMapping) -> typeChecker.checkFieldExists(name));
         methodsMapping.forEach((methodSignature, methodMapping) -> typeChecker.checkMethodExists(methodSignature));
     }
@@ -230,16 +406,25 @@ public class ClassMappingInternal<T> implements HasAnnotationsInternal<ClassMapp
         return annotations;
     }
 
+    /**
+     * Freeze the maps of the fields and methods mapping, so that the class mapping can be copied and merged by
+     * different threads.
+     */
+    public void freeze() {
+        fieldsMapping.freeze();
+        methodsMapping.freeze();
+    }
+
     @Override
     public ClassMappingInternal<T> copy() {
         return new ClassMappingInternal<>(type,
                 mapAllFields,
+                creatorPropertiesFirst,
+                cacheSerializedForm,
                 Copyable.copy(classBuilderCriteriaOpt),
                 fieldsMapping.copy(),
                 methodsMapping.copy(),
-                annotations.copy(),
-                typeChecker
-
+                annotations.copy()
         );
     }
 
@@ -247,11 +432,12 @@ public class ClassMappingInternal<T> implements HasAnnotationsInternal<ClassMapp
     public ClassMappingInternal<T> mergeWith(ClassMappingInternal<T> parentMapping) {
         return new ClassMappingInternal<>(type,
                 mapAllFields | parentMapping.mapAllFields,
+                creatorPropertiesFirst | parentMapping.creatorPropertiesFirst,
+                cacheSerializedForm | parentMapping.cacheSerializedForm,
                 Mergeable.mergeOrCopy(classBuilderCriteriaOpt, parentMapping.classBuilderCriteriaOpt),
                 fieldsMapping.mergeWith(parentMapping.fieldsMapping),
                 methodsMapping.mergeWith(parentMapping.methodsMapping),
-                annotations.mergeWithParent(parentMapping.annotations),
-                typeChecker
+                annotations.mergeWithParent(parentMapping.annotations)
         );
     }
 
@@ -18,22 +18,17 @@ package com.github.mrenou.jacksonatic.internal.mapping;
 import com.github.mrenou.jacksonatic.internal.util.Copyable;
 import com.github.mrenou.jacksonatic.internal.util.CopyableMergeableHashMap;
 
-import static com.github.mrenou.jacksonatic.internal.util.StreamUtil.throwException;
-import static java.util.stream.Collectors.toMap;
-
-/**
- * Class mapping map
- */
 public class ClassesMapping extends CopyableMergeableHashMap<Class<Object>, ClassMappingInternal<Object>> implements Copyable<ClassesMapping> {
 
+    /**
+     * Class mappings are modified in place, so each one is copied. Their own copy shares their fields, methods and
+     * annotations.
+     */
     @Override
     public ClassesMapping copy() {
-        return this.entrySet().stream().collect(toMap(
-                Entry::getKey,
-                e -> e.getValue().copy(),
-                (v1, v2) -> throwException(new UnsupportedOperationException()),
-                ClassesMapping::new)
-        );
+        ClassesMapping classesMapping = new ClassesMapping();
+        forEach((type, classMapping) -> classesMapping.put(type, classMapping.copy()));
+        return classesMapping;
     }
 
 }
@@ -19,43 +19,27 @@ import com.github.mrenou.jacksonatic.exception.FieldNotFoundException;
 import com.github.mrenou.jacksonatic.exception.MethodNotFoundException;
 import com.github.mrenou.jacksonatic.internal.mapping.method.MethodSignature;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-import java.util.Set;
-
-import static com.github.mrenou.jacksonatic.internal.mapping.method.MethodSignature.methodSignature;
-import static com.github.mrenou.jacksonatic.internal.util.ReflectionUtil.getFieldsWithInheritance;
-import static com.github.mrenou.jacksonatic.internal.util.ReflectionUtil.getMethodsWithInheritance;
-import static java.util.stream.Collectors.toSet;
-
 /**
  * Allows checking if a field, a method exists in a given class
+ *
+ * Reflection data is read from {@link TypeMetadata} on the first check.
  */
 class TypeChecker<T> {
 
     private final Class<T> type;
 
-    private final Set<String> existingFieldNames;
-
-    private final Set<MethodSignature> existingMethodSignatures;
-
-    private final Set<String> existingMethodNames;
-
     public TypeChecker(Class<T> type) {
         this.type = type;
-        this.existingFieldNames = getFieldsWithInheritance(type).map(Field::getName).collect(toSet());
-        this.existingMethodSignatures = getMethodsWithInheritance(type).map(method -> methodSignature(method.getName(), method.getParameterTypes())).collect(toSet());
-        this.existingMethodNames = getMethodsWithInheritance(type).map(Method::getName).collect(toSet());
     }
 
     public void checkFieldExists(String name) {
-        if (!existingFieldNames.contains(name)) {
+        if (!TypeMetadata.of(type).hasField(name)) {
             throw new FieldNotFoundException(name, type);
         }
     }
 
     public void checkMethodExists(MethodSignature methodSignature) {
-        if (!existingMethodSignatures.contains(methodSignature) && !existingMethodNames.contains(methodSignature.name)) {
+        if (!TypeMetadata.of(type).hasMethod(methodSignature)) {
             throw new MethodNotFoundException(methodSignature, type);
         }
     }
@@ -0,0 +1,107 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.mapping;
+
+import com.github.mrenou.jacksonatic.internal.mapping.method.MethodSignature;
+import com.github.mrenou.jacksonatic.internal.util.ReflectionUtil;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.github.mrenou.jacksonatic.internal.mapping.method.MethodSignature.methodSignature;
+import static com.github.mrenou.jacksonatic.internal.util.ReflectionUtil.getMethodsWithInheritance;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Reflection data of a class needed by the mapping, shared by all mappings of the class.
+ * <p>
+ * Each data is read from the class the first time it is asked.
+ */
+public class TypeMetadata {
+
+    private static final ClassValue<TypeMetadata> TYPE_METADATA = new ClassValue<TypeMetadata>() {
+        @Override
+        protected TypeMetadata computeValue(Class<?> type) {
+            return new TypeMetadata(type);
+        }
+    };
+
+    private final Class<?> type;
+
+    private volatile List<Field> fieldsWithInheritance;
+
+    private volatile Set<String> fieldNames;
+
+    private volatile MethodNames methodNames;
+
+    private TypeMetadata(Class<?> type) {
+        this.type = type;
+    }
+
+    public static TypeMetadata of(Class<?> type) {
+        return TYPE_METADATA.get(type);
+    }
+
+    /**
+     * @return not static fields, from the top super class to the type
+     */
+    public List<Field> getFieldsWithInheritance() {
+        List<Field> fields = fieldsWithInheritance;
+        if (fields == null) {
+            fields = Collections.unmodifiableList(ReflectionUtil.getFieldsWithInheritance(type).collect(toList()));
+            fieldsWithInheritance = fields;
+        }
+        return fields;
+    }
+
+    public boolean hasField(String name) {
+        Set<String> names = fieldNames;
+        if (names == null) {
+            names = new HashSet<>();
+            for (Field field : getFieldsWithInheritance()) {
+                names.add(field.getName());
+            }
+            fieldNames = names;
+        }
+        return names.contains(name);
+    }
+
+    public boolean hasMethod(MethodSignature methodSignature) {
+        MethodNames names = methodNames;
+        if (names == null) {
+            names = new MethodNames(type);
+            methodNames = names;
+        }
+        return names.signatures.contains(methodSignature) || names.names.contains(methodSignature.name);
+    }
+
+    private static class MethodNames {
+
+        private final Set<MethodSignature> signatures = new HashSet<>();
+
+        private final Set<String> names = new HashSet<>();
+
+        private MethodNames(Class<?> type) {
+            getMethodsWithInheritance(type).forEach(method -> {
+                signatures.add(methodSignature(method.getName(), method.getParameterTypes()));
+                names.add(method.getName());
+            });
+        }
+    }
+}
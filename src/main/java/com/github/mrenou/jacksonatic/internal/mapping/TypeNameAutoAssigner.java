@@ -17,39 +17,52 @@ package com.github.mrenou.jacksonatic.internal.mapping;
 
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.databind.util.ClassUtil;
 
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Save Object which defines {@link com.fasterxml.jackson.annotation.JsonSubTypes } to assign type name to children objects if it is not already defined.
+ * <p>
+ * The names of the sub types are indexed by super type, so the type name of a class is found walking its own super
+ * types only.
  */
 public class TypeNameAutoAssigner {
 
-    private Set<Class<Object>> typesWithPolymorphism = new HashSet<>();
+    private final Map<Class<?>, Map<Class<?>, String>> subTypeNamesBySuperType = new HashMap<>();
 
-    public void saveTypeWithJsonSubTypes(ClassMappingInternal<Object> currentClassMapping) {
+    public void saveTypeWithJsonSubTypes(ClassesMapping classesMapping, ClassMappingInternal<Object> currentClassMapping) {
         if (currentClassMapping.hasAnnotation(JsonSubTypes.class)) {
-            typesWithPolymorphism.add(currentClassMapping.getType());
+            classesMapping.getOpt(currentClassMapping.getType())
+                    .flatMap(classMapping -> classMapping.getAnnotationOpt(JsonSubTypes.class))
+                    .ifPresent(jsonSubTypes -> {
+                        Map<Class<?>, String> subTypeNames = new HashMap<>();
+                        for (JsonSubTypes.Type subType : jsonSubTypes.value()) {
+                            if (!subType.name().isEmpty()) {
+                                subTypeNames.putIfAbsent(subType.value(), subType.name());
+                            }
+                        }
+                        subTypeNamesBySuperType.put(currentClassMapping.getType(), subTypeNames);
+                    });
         }
     }
 
     public void assignTypeNameIfNecessary(ClassesMapping classesMapping, ClassMappingInternal<Object> currentClassMapping) {
-        if (!currentClassMapping.hasAnnotation(JsonTypeName.class)) {
-            typesWithPolymorphism.stream()
-                    .filter(typeWithPolymorphism -> typeWithPolymorphism.isAssignableFrom(currentClassMapping.getType()))
-                    .findFirst()
-                    .ifPresent(typeWithPolymorphism -> classesMapping.getOpt(typeWithPolymorphism)
-                            .ifPresent(classMapping -> classMapping.getAnnotationOpt(JsonSubTypes.class)
-                                    .ifPresent((jsonSubTypes) -> Arrays.asList(jsonSubTypes.value()).stream()
-                                            .filter(subtype -> subtype.value().equals(classMapping.getType()))
-                                            .findFirst()
-                                            .map(JsonSubTypes.Type::name)
-                                            .ifPresent(classMapping::typeName)
-                                    )
-                            )
-                    );
+        if (subTypeNamesBySuperType.isEmpty()) {
+            return;
         }
+        Class<Object> type = currentClassMapping.getType();
+        classesMapping.getOpt(type)
+                .filter(classMapping -> !classMapping.hasAnnotation(JsonTypeName.class))
+                .ifPresent(classMapping -> {
+                    for (Class<?> superType : ClassUtil.findSuperTypes(type, null)) {
+                        Map<Class<?>, String> subTypeNames = subTypeNamesBySuperType.get(superType);
+                        if (subTypeNames != null && subTypeNames.containsKey(type)) {
+                            classMapping.typeName(subTypeNames.get(type));
+                            return;
+                        }
+                    }
+                });
     }
 }
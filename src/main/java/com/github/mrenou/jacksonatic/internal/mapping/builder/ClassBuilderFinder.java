@@ -17,9 +17,12 @@ package com.github.mrenou.jacksonatic.internal.mapping.builder;
 
 
 import com.github.mrenou.jacksonatic.exception.ClassBuilderNotFoundException;
+import com.github.mrenou.jacksonatic.internal.JacksonOperation;
 import com.github.mrenou.jacksonatic.internal.mapping.ClassMappingInternal;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Use {@link com.github.mrenou.jacksonatic.internal.mapping.ClassMappingInternal } and {@link ClassBuilderCriteria } to
@@ -31,6 +34,9 @@ import java.util.Optional;
  *
  * Otherwise, try to find a constructor or a static factory with the same signature described in
  * {@link ClassBuilderCriteria }.
+ *
+ * The class builder found is saved for the operation, the type and the criteria, so it is searched once for a
+ * registered mapping. When no class builder matches a criteria, nothing is saved and the search fails again next time.
  */
 public class ClassBuilderFinder {
 
@@ -38,6 +44,18 @@ public class ClassBuilderFinder {
 
     public ClassBuilderFinderFromCriteria classBuilderFinderFromCriteria = new ClassBuilderFinderFromCriteria();
 
+    private final Map<ClassBuilderKey, Optional<ClassBuilderMapping>> classBuildersFound = new ConcurrentHashMap<>();
+
+    public Optional<ClassBuilderMapping> find(JacksonOperation operation, ClassMappingInternal<Object> classMapping, ClassBuilderCriteria classBuilderCriteria) {
+        ClassBuilderKey key = new ClassBuilderKey(operation, classMapping.getType(), classBuilderCriteria);
+        Optional<ClassBuilderMapping> classBuilderMappingOpt = classBuildersFound.get(key);
+        if (classBuilderMappingOpt == null) {
+            classBuilderMappingOpt = find(classMapping, classBuilderCriteria);
+            classBuildersFound.putIfAbsent(key, classBuilderMappingOpt);
+        }
+        return classBuilderMappingOpt;
+    }
+
     public Optional<ClassBuilderMapping> find(ClassMappingInternal<Object> classMapping, ClassBuilderCriteria classBuilderCriteria) {
         Optional<ClassBuilderMapping> classBuilderMappingOpt;
         if (classBuilderCriteria.isAny()) {
@@ -51,4 +69,36 @@ public class ClassBuilderFinder {
         return classBuilderMappingOpt;
     }
 
+    /**
+     * Criteria is compared by identity, each class mapping has its own
+     */
+    private static class ClassBuilderKey {
+
+        private final JacksonOperation operation;
+
+        private final Class<?> type;
+
+        private final ClassBuilderCriteria classBuilderCriteria;
+
+        private ClassBuilderKey(JacksonOperation operation, Class<?> type, ClassBuilderCriteria classBuilderCriteria) {
+            this.operation = operation;
+            this.type = type;
+            this.classBuilderCriteria = classBuilderCriteria;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ClassBuilderKey that = (ClassBuilderKey) o;
+            return operation == that.operation
+                    && type == that.type
+                    && classBuilderCriteria == that.classBuilderCriteria;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * operation.hashCode() + type.hashCode()) + System.identityHashCode(classBuilderCriteria);
+        }
+    }
 }
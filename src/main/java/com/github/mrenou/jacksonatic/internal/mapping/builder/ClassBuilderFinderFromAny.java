@@ -18,8 +18,9 @@ package com.github.mrenou.jacksonatic.internal.mapping.builder;
 
 import com.github.mrenou.jacksonatic.internal.mapping.ClassMappingInternal;
 import com.github.mrenou.jacksonatic.internal.mapping.PropertyMapperInternal;
+import com.github.mrenou.jacksonatic.internal.mapping.TypeMetadata;
 import com.github.mrenou.jacksonatic.internal.mapping.builder.parameter.ParameterMapping;
-import com.github.mrenou.jacksonatic.internal.mapping.field.FieldMappingInternal;
+import com.github.mrenou.jacksonatic.internal.mapping.field.FieldPlan;
 import com.github.mrenou.jacksonatic.internal.mapping.method.MethodMappingInternal;
 
 import java.lang.reflect.Constructor;
@@ -28,9 +29,6 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.*;
 
-import static com.github.mrenou.jacksonatic.internal.util.ReflectionUtil.getFieldsWithInheritance;
-import static java.util.stream.Collectors.toList;
-
 /**
  * Use {@link com.github.mrenou.jacksonatic.internal.mapping.ClassMappingInternal } to find any constructor or static
  * factory to build the type
@@ -39,61 +37,65 @@ import static java.util.stream.Collectors.toList;
  */
 public class ClassBuilderFinderFromAny {
 
-    public Optional<ClassBuilderMapping> find(ClassMappingInternal<Object> classMapping) {
-        SortedSet<ClassBuilderMapping> classBuilderMappingScored = new TreeSet<>(
-                Comparator.<ClassBuilderMapping>comparingInt(o -> o.getParametersMapping().size())
-                        .reversed()
-                        .thenComparing(o -> o.getConstructor() != null ? "constructor=" + o.getConstructor() : "staticFactory=" + o.getStaticFactory())
-                        .thenComparingInt(o -> o.getConstructor() != null ? o.getConstructor().getParameterCount() : o.getStaticFactory().getParameterCount())
-        );
-        addConstructorScored(classMapping, classBuilderMappingScored);
+    /**
+     * Best first: more parameters mapped, then constructors before static factories
+     */
+    private static final Comparator<ClassBuilderMapping> CLASS_BUILDER_MAPPING_COMPARATOR = Comparator.<ClassBuilderMapping>comparingInt(o -> o.getParametersMapping().size())
+            .reversed()
+            .thenComparing(o -> o.getConstructor() != null ? "constructor=" + o.getConstructor() : "staticFactory=" + o.getStaticFactory())
+            .thenComparingInt(o -> o.getConstructor() != null ? o.getConstructor().getParameterCount() : o.getStaticFactory().getParameterCount());
 
-        if (classBuilderMappingScored.isEmpty() || (classBuilderMappingScored.first().getParametersMapping().size() < classMapping.getType().getDeclaredFields().length)) {
-            addStaticFactoryScored(classMapping, classBuilderMappingScored);
-        }
+    public Optional<ClassBuilderMapping> find(ClassMappingInternal<Object> classMapping) {
+        List<Field> fields = TypeMetadata.of(classMapping.getType()).getFieldsWithInheritance();
+        ClassBuilderMapping best = findBestConstructor(classMapping, fields);
 
-        if (!classBuilderMappingScored.isEmpty()) {
-            return Optional.of(classBuilderMappingScored.first());
+        if (best == null || (best.getParametersMapping().size() < classMapping.getType().getDeclaredFields().length)) {
+            best = findBestStaticFactory(classMapping, fields, best);
         }
-        return Optional.empty();
+        return Optional.ofNullable(best);
     }
 
-    private void addConstructorScored(ClassMappingInternal<Object> classMapping, SortedSet<ClassBuilderMapping> classBuilderMappingScored) {
+    private ClassBuilderMapping findBestConstructor(ClassMappingInternal<Object> classMapping, List<Field> fields) {
+        ClassBuilderMapping best = null;
         for (Constructor<?> constructor : classMapping.getType().getConstructors()) {
-            List<Field> declaredFields = getFieldsWithInheritance(classMapping.getType()).collect(toList());
-            List<ParameterMapping> parametersMapping = getParametersMapping(classMapping, Arrays.asList(constructor.getParameterTypes()), declaredFields);
-            classBuilderMappingScored.add(new ClassBuilderMapping(constructor, parametersMapping));
-            if (parametersMapping.size() == declaredFields.size()) {
+            List<ParameterMapping> parametersMapping = getParametersMapping(classMapping, Arrays.asList(constructor.getParameterTypes()), fields);
+            best = better(best, new ClassBuilderMapping(constructor, parametersMapping));
+            if (parametersMapping.size() == fields.size()) {
                 break;
             }
         }
+        return best;
     }
 
-    private void addStaticFactoryScored(ClassMappingInternal<Object> classMapping, SortedSet<ClassBuilderMapping> classBuilderMappingScored) {
+    private ClassBuilderMapping findBestStaticFactory(ClassMappingInternal<Object> classMapping, List<Field> fields, ClassBuilderMapping best) {
         for (Method method : classMapping.getType().getDeclaredMethods()) {
             if (Modifier.isStatic(method.getModifiers())) {
-                List<Field> declaredFields = getFieldsWithInheritance(classMapping.getType()).collect(toList());
-                List<ParameterMapping> parametersMapping = getParametersMapping(classMapping, Arrays.asList(method.getParameterTypes()), declaredFields);
-                classBuilderMappingScored.add(new ClassBuilderMapping(method, parametersMapping));
-                if (parametersMapping.size() == declaredFields.size()) {
+                List<ParameterMapping> parametersMapping = getParametersMapping(classMapping, Arrays.asList(method.getParameterTypes()), fields);
+                best = better(best, new ClassBuilderMapping(method, parametersMapping));
+                if (parametersMapping.size() == fields.size()) {
                     break;
                 }
             }
         }
+        return best;
+    }
+
+    private ClassBuilderMapping better(ClassBuilderMapping best, ClassBuilderMapping candidate) {
+        return best == null || CLASS_BUILDER_MAPPING_COMPARATOR.compare(candidate, best) < 0 ? candidate : best;
     }
 
     private List<ParameterMapping> getParametersMapping(ClassMappingInternal<Object> classMapping, List<Class<?>> parameterTypes, List<Field> fields) {
         int iParameterType = 0;
         int iFields = 0;
         List<ParameterMapping> parametersMapping = new ArrayList<>();
+        FieldPlan fieldPlan = classMapping.getFieldPlan();
 
         while (iFields < fields.size() && iParameterType < parameterTypes.size()) {
             Field field = fields.get(iFields);
             Class<?> parameterType = parameterTypes.get(iParameterType);
-            FieldMappingInternal fieldMapping = classMapping.getOrCreateFieldMappingInternal(field.getName());
             Optional<MethodMappingInternal> setterMapping = classMapping.getSetterMapping(field.getName(), field.getType());
             Optional<MethodMappingInternal> getterMapping = classMapping.getGetterMapping(field.getName());
-            Optional<String> mappedNameOpt = getMappedNameOpt(classMapping, fieldMapping, setterMapping, getterMapping);
+            Optional<String> mappedNameOpt = getMappedNameOpt(fieldPlan, field, setterMapping, getterMapping);
             if (!Modifier.isStatic(field.getModifiers()) && mappedNameOpt.isPresent()) {
                 if (parameterType.equals(field.getType())) {
                     parametersMapping.add(new ParameterMapping(field.getType(), mappedNameOpt.get()));
@@ -109,15 +111,15 @@ public class ClassBuilderFinderFromAny {
         return parametersMapping;
     }
 
-    private Optional<String> getMappedNameOpt(ClassMappingInternal<Object> classMapping, FieldMappingInternal fieldMapping, Optional<MethodMappingInternal> setterMapping, Optional<MethodMappingInternal> getterMapping) {
+    private Optional<String> getMappedNameOpt(FieldPlan fieldPlan, Field field, Optional<MethodMappingInternal> setterMapping, Optional<MethodMappingInternal> getterMapping) {
         if (setterMapping.map(PropertyMapperInternal::isMapped).orElse(false)) {
             return Optional.of(setterMapping.get().getMappedName());
         }
         if (getterMapping.map(PropertyMapperInternal::isMapped).orElse(false)) {
             return Optional.of(getterMapping.get().getMappedName());
         }
-        if (classMapping.allFieldsAreMapped() || fieldMapping.isMapped()) {
-            return Optional.of(fieldMapping.getMappedName());
+        if (fieldPlan.isMapped(field.getName())) {
+            return Optional.of(fieldPlan.getMappedName(field.getName()));
         }
         return Optional.empty();
     }
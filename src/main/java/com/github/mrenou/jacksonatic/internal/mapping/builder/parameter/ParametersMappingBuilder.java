@@ -15,6 +15,7 @@
  */
 package com.github.mrenou.jacksonatic.internal.mapping.builder.parameter;
 
+import com.github.mrenou.jacksonatic.internal.mapping.TypeMetadata;
 import com.github.mrenou.jacksonatic.internal.util.TypedHashMap;
 
 import java.util.HashMap;
@@ -24,7 +25,6 @@ import java.util.PriorityQueue;
 
 import static com.github.mrenou.jacksonatic.exception.ClassBuilderParameterMappingException.parameterJsonPropertyNotFoundException;
 import static com.github.mrenou.jacksonatic.exception.ClassBuilderParameterMappingException.parameterTypeNotFoundException;
-import static com.github.mrenou.jacksonatic.internal.util.ReflectionUtil.getFieldsWithInheritance;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -49,7 +49,7 @@ public class ParametersMappingBuilder {
     }
 
     private void buildFieldNamesByTypeAndTypeByFieldName() {
-        getFieldsWithInheritance(classUsed).forEach(field -> {
+        TypeMetadata.of(classUsed).getFieldsWithInheritance().forEach(field -> {
             PriorityQueue<String> fieldNames = fieldNamesByType.getTyped(field.getType());
             if (fieldNames == null) {
                 fieldNames = new PriorityQueue<>();
@@ -0,0 +1,88 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.mapping.field;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.mrenou.jacksonatic.internal.annotations.Annotations;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Final annotations of the fields of a class mapping: a field defined by the mapping is mapped by default when all
+ * fields are mapped and ignored by default otherwise, a field not defined gets the default annotations.
+ * <p>
+ * Built once from the class mapping, then only read, from any thread. The annotations returned are shared and must
+ * not be modified.
+ */
+public class FieldPlan {
+
+    private static final Annotations MAPPED = withDefault(new FieldMappingInternal(""), true);
+
+    private static final Annotations IGNORED = withDefault(new FieldMappingInternal(""), false);
+
+    private final Map<String, Annotations> annotationsByField;
+
+    private final Annotations defaultAnnotations;
+
+    private FieldPlan(Map<String, Annotations> annotationsByField, Annotations defaultAnnotations) {
+        this.annotationsByField = annotationsByField;
+        this.defaultAnnotations = defaultAnnotations;
+    }
+
+    public static FieldPlan plan(boolean mapAllFields, Map<String, FieldMappingInternal> fieldsMapping) {
+        Map<String, Annotations> annotationsByField = new HashMap<>();
+        fieldsMapping.forEach((name, fieldMapping) -> {
+            if (fieldMapping.isMapped() || fieldMapping.isIgnored()) {
+                annotationsByField.put(name, fieldMapping.getAnnotations().copy());
+            } else {
+                annotationsByField.put(name, withDefault(fieldMapping.copy(), mapAllFields));
+            }
+        });
+        return new FieldPlan(annotationsByField, mapAllFields ? MAPPED : IGNORED);
+    }
+
+    private static Annotations withDefault(FieldMappingInternal fieldMapping, boolean mapped) {
+        if (mapped) {
+            fieldMapping.map();
+        } else {
+            fieldMapping.ignore();
+        }
+        return fieldMapping.getAnnotations();
+    }
+
+    public Annotations getAnnotations(String fieldName) {
+        Annotations annotations = annotationsByField.get(fieldName);
+        return annotations != null ? annotations : defaultAnnotations;
+    }
+
+    /**
+     * @return true if the field is mapped, explicitly or with all fields, and not ignored
+     */
+    public boolean isMapped(String fieldName) {
+        Annotations annotations = getAnnotations(fieldName);
+        return annotations.containsKey(JsonProperty.class) && !annotations.containsKey(JsonIgnore.class);
+    }
+
+    /**
+     * @return name given to the field by its {@link JsonProperty}, or the name of the field
+     */
+    public String getMappedName(String fieldName) {
+        JsonProperty jsonProperty = (JsonProperty) getAnnotations(fieldName).get(JsonProperty.class);
+        return jsonProperty != null && !jsonProperty.value().isEmpty() ? jsonProperty.value() : fieldName;
+    }
+}
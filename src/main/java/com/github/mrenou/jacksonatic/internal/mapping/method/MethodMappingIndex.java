@@ -0,0 +1,78 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.mapping.method;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable index of the method mappings of a class by method name, probed with the name and the raw parameter types
+ * of a member method without building a {@link MethodSignature}
+ */
+public class MethodMappingIndex {
+
+    private static final MethodMappingInternal[] NO_MAPPINGS = new MethodMappingInternal[0];
+
+    public static final MethodMappingIndex EMPTY = new MethodMappingIndex(new HashMap<>());
+
+    /**
+     * mappings by method name, the mapping ignoring parameters, if any, is the last one
+     */
+    private final Map<String, MethodMappingInternal[]> mappingsByName;
+
+    private MethodMappingIndex(Map<String, MethodMappingInternal[]> mappingsByName) {
+        this.mappingsByName = mappingsByName;
+    }
+
+    public static MethodMappingIndex index(Map<MethodSignature, MethodMappingInternal> methodsMapping) {
+        if (methodsMapping.isEmpty()) {
+            return EMPTY;
+        }
+        Map<String, MethodMappingInternal[]> mappingsByName = new HashMap<>();
+        methodsMapping.forEach((methodSignature, methodMapping) -> {
+            MethodMappingInternal[] mappings = mappingsByName.getOrDefault(methodSignature.name, NO_MAPPINGS);
+            MethodMappingInternal[] newMappings = new MethodMappingInternal[mappings.length + 1];
+            if (methodSignature.ignoreParameters) {
+                System.arraycopy(mappings, 0, newMappings, 0, mappings.length);
+                newMappings[mappings.length] = methodMapping;
+            } else {
+                System.arraycopy(mappings, 0, newMappings, 1, mappings.length);
+                newMappings[0] = methodMapping;
+            }
+            mappingsByName.put(methodSignature.name, newMappings);
+        });
+        return new MethodMappingIndex(mappingsByName);
+    }
+
+    public boolean isEmpty() {
+        return mappingsByName.isEmpty();
+    }
+
+    /**
+     * @return mapping of the method with these parameters, or else mapping of the method whatever its parameters, or else null
+     */
+    public MethodMappingInternal find(String name, Class<?>[] parameterTypes) {
+        MethodMappingInternal[] mappings = mappingsByName.get(name);
+        if (mappings != null) {
+            for (MethodMappingInternal mapping : mappings) {
+                if (mapping.getMethodSignature().matches(name, parameterTypes)) {
+                    return mapping;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -29,10 +29,34 @@ public class MethodSignature {
 
     public final boolean ignoreParameters;
 
+    private final int hash;
+
     private MethodSignature(String name, List<Class<?>> parameterTypes, boolean ignoreParameters) {
         this.name = name;
         this.parameterTypes = parameterTypes;
         this.ignoreParameters = ignoreParameters;
+        this.hash = Objects.hash(name, parameterTypes, ignoreParameters);
+    }
+
+    /**
+     * @return true if the signature matches a method with this name and these parameter types
+     */
+    public boolean matches(String name, Class<?>[] parameterTypes) {
+        if (!this.name.equals(name)) {
+            return false;
+        }
+        if (ignoreParameters) {
+            return true;
+        }
+        if (this.parameterTypes.size() != parameterTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (this.parameterTypes.get(i) != parameterTypes[i]) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public static MethodSignature methodSignature(String name, Class<?>... parameterTypes) {
@@ -52,14 +76,15 @@ public class MethodSignature {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         MethodSignature that = (MethodSignature) o;
-        return ignoreParameters == that.ignoreParameters &&
+        return hash == that.hash &&
+                ignoreParameters == that.ignoreParameters &&
                 Objects.equals(name, that.name) &&
                 Objects.equals(parameterTypes, that.parameterTypes);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, parameterTypes, ignoreParameters);
+        return hash;
     }
 
     @Override
@@ -0,0 +1,34 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.mixin;
+
+/**
+ * Define the mix-ins of the classes loaded by a same class loader, so the mix-ins see the classes they annotate.
+ */
+class MixInClassLoader extends ClassLoader {
+
+    static {
+        registerAsParallelCapable();
+    }
+
+    MixInClassLoader(ClassLoader parent) {
+        super(parent);
+    }
+
+    Class<?> define(String className, byte[] classFile) {
+        return defineClass(className, classFile, 0, classFile.length);
+    }
+}
@@ -0,0 +1,452 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.mixin;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Write the class file of a mix-in: an abstract class holding annotations on fields, methods, constructors and static
+ * factories having the same names and parameter types than the members of the mapped class.
+ * <p>
+ * Jackson only reads annotations and signatures of a mix-in, so fields are typed {@link Object}, methods are abstract,
+ * constructors only call {@link Object#Object()} and static factories return a default value.
+ */
+class MixInClassWriter {
+
+    private static final int CLASS_VERSION_JAVA_8 = 52;
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_PRIVATE = 0x0002;
+    private static final int ACC_STATIC = 0x0008;
+    private static final int ACC_SUPER = 0x0020;
+    private static final int ACC_ABSTRACT = 0x0400;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+    private final String className;
+
+    private final ConstantPool constantPool = new ConstantPool();
+
+    private final ByteArrayOutputStream fields = new ByteArrayOutputStream();
+
+    private final ByteArrayOutputStream methods = new ByteArrayOutputStream();
+
+    private int fieldCount = 0;
+
+    private int methodCount = 0;
+
+    private Collection<Annotation> classAnnotations = new ArrayList<>();
+
+    MixInClassWriter(String className) {
+        this.className = className;
+    }
+
+    void setClassAnnotations(Collection<Annotation> annotations) {
+        this.classAnnotations = annotations;
+    }
+
+    void addField(String name, Collection<Annotation> annotations) {
+        write(fields, out -> {
+            out.writeShort(ACC_PRIVATE);
+            out.writeShort(constantPool.utf8(name));
+            out.writeShort(constantPool.utf8("Ljava/lang/Object;"));
+            writeAttributes(out, annotations, null, null);
+        });
+        fieldCount++;
+    }
+
+    void addMethod(String name, Class<?>[] parameterTypes, Class<?> returnType, Collection<Annotation> annotations) {
+        write(methods, out -> {
+            out.writeShort(ACC_PUBLIC | ACC_ABSTRACT);
+            out.writeShort(constantPool.utf8(name));
+            out.writeShort(constantPool.utf8(methodDescriptor(parameterTypes, returnType)));
+            writeAttributes(out, annotations, null, null);
+        });
+        methodCount++;
+    }
+
+    void addConstructor(Class<?>[] parameterTypes, Collection<Annotation> annotations, List<? extends Collection<Annotation>> parameterAnnotations) {
+        write(methods, out -> {
+            out.writeShort(ACC_PUBLIC);
+            out.writeShort(constantPool.utf8("<init>"));
+            out.writeShort(constantPool.utf8(methodDescriptor(parameterTypes, void.class)));
+            ByteArrayOutputStream code = new ByteArrayOutputStream();
+            code.write(0x2A); // aload_0
+            code.write(0xB7); // invokespecial
+            int objectConstructor = constantPool.methodRef("java/lang/Object", "<init>", "()V");
+            code.write(objectConstructor >> 8);
+            code.write(objectConstructor);
+            code.write(0xB1); // return
+            writeAttributes(out, annotations, parameterAnnotations, new Code(1, 1 + slots(parameterTypes), code.toByteArray()));
+        });
+        methodCount++;
+    }
+
+    void addStaticFactory(String name, Class<?>[] parameterTypes, Class<?> returnType, Collection<Annotation> annotations, List<? extends Collection<Annotation>> parameterAnnotations) {
+        write(methods, out -> {
+            out.writeShort(ACC_PUBLIC | ACC_STATIC);
+            out.writeShort(constantPool.utf8(name));
+            out.writeShort(constantPool.utf8(methodDescriptor(parameterTypes, returnType)));
+            writeAttributes(out, annotations, parameterAnnotations, new Code(2, slots(parameterTypes), returnDefaultValue(returnType)));
+        });
+        methodCount++;
+    }
+
+    byte[] toByteArray() {
+        ByteArrayOutputStream classFile = new ByteArrayOutputStream();
+        write(classFile, out -> {
+            int thisClass = constantPool.classRef(internalName(className));
+            int superClass = constantPool.classRef("java/lang/Object");
+            ByteArrayOutputStream attributes = new ByteArrayOutputStream();
+            write(attributes, attributesOut -> writeAttributes(attributesOut, classAnnotations, null, null));
+
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(CLASS_VERSION_JAVA_8);
+            constantPool.writeTo(out);
+            out.writeShort(ACC_PUBLIC | ACC_SUPER | ACC_ABSTRACT);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(0);
+            out.writeShort(fieldCount);
+            fields.writeTo(out);
+            out.writeShort(methodCount);
+            methods.writeTo(out);
+            attributes.writeTo(out);
+        });
+        return classFile.toByteArray();
+    }
+
+    private void writeAttributes(DataOutputStream out, Collection<Annotation> annotations, List<? extends Collection<Annotation>> parameterAnnotations, Code code) throws IOException {
+        List<Annotation> runtimeAnnotations = runtimeAnnotations(annotations);
+        boolean hasParameterAnnotations = parameterAnnotations != null && parameterAnnotations.stream().anyMatch(list -> !runtimeAnnotations(list).isEmpty());
+        out.writeShort((code != null ? 1 : 0) + (runtimeAnnotations.isEmpty() ? 0 : 1) + (hasParameterAnnotations ? 1 : 0));
+        if (code != null) {
+            writeAttribute(out, "Code", attributeOut -> {
+                attributeOut.writeShort(code.maxStack);
+                attributeOut.writeShort(code.maxLocals);
+                attributeOut.writeInt(code.bytecode.length);
+                attributeOut.write(code.bytecode);
+                attributeOut.writeShort(0);
+                attributeOut.writeShort(0);
+            });
+        }
+        if (!runtimeAnnotations.isEmpty()) {
+            writeAttribute(out, "RuntimeVisibleAnnotations", attributeOut -> writeAnnotations(attributeOut, runtimeAnnotations));
+        }
+        if (hasParameterAnnotations) {
+            writeAttribute(out, "RuntimeVisibleParameterAnnotations", attributeOut -> {
+                attributeOut.writeByte(parameterAnnotations.size());
+                for (Collection<Annotation> annotationsOfParameter : parameterAnnotations) {
+                    writeAnnotations(attributeOut, runtimeAnnotations(annotationsOfParameter));
+                }
+            });
+        }
+    }
+
+    private void writeAttribute(DataOutputStream out, String name, DataWriter attributeWriter) throws IOException {
+        ByteArrayOutputStream attribute = new ByteArrayOutputStream();
+        write(attribute, attributeWriter);
+        out.writeShort(constantPool.utf8(name));
+        out.writeInt(attribute.size());
+        attribute.writeTo(out);
+    }
+
+    private void writeAnnotations(DataOutputStream out, List<Annotation> annotations) throws IOException {
+        out.writeShort(annotations.size());
+        for (Annotation annotation : annotations) {
+            writeAnnotation(out, annotation);
+        }
+    }
+
+    private void writeAnnotation(DataOutputStream out, Annotation annotation) throws IOException {
+        Class<? extends Annotation> annotationType = annotation.annotationType();
+        List<Method> elements = new ArrayList<>();
+        for (Method element : annotationType.getDeclaredMethods()) {
+            if (!Modifier.isStatic(element.getModifiers()) && element.getParameterCount() == 0) {
+                elements.add(element);
+            }
+        }
+        out.writeShort(constantPool.utf8(descriptor(annotationType)));
+        out.writeShort(elements.size());
+        for (Method element : elements) {
+            out.writeShort(constantPool.utf8(element.getName()));
+            writeElementValue(out, element.getReturnType(), elementValue(annotation, element));
+        }
+    }
+
+    private void writeElementValue(DataOutputStream out, Class<?> type, Object value) throws IOException {
+        if (type == boolean.class) {
+            out.writeByte('Z');
+            out.writeShort(constantPool.integer((Boolean) value ? 1 : 0));
+        } else if (type == byte.class) {
+            out.writeByte('B');
+            out.writeShort(constantPool.integer((Byte) value));
+        } else if (type == char.class) {
+            out.writeByte('C');
+            out.writeShort(constantPool.integer((Character) value));
+        } else if (type == short.class) {
+            out.writeByte('S');
+            out.writeShort(constantPool.integer((Short) value));
+        } else if (type == int.class) {
+            out.writeByte('I');
+            out.writeShort(constantPool.integer((Integer) value));
+        } else if (type == long.class) {
+            out.writeByte('J');
+            out.writeShort(constantPool.longValue((Long) value));
+        } else if (type == float.class) {
+            out.writeByte('F');
+            out.writeShort(constantPool.floatValue((Float) value));
+        } else if (type == double.class) {
+            out.writeByte('D');
+            out.writeShort(constantPool.doubleValue((Double) value));
+        } else if (type == String.class) {
+            out.writeByte('s');
+            out.writeShort(constantPool.utf8((String) value));
+        } else if (type == Class.class) {
+            out.writeByte('c');
+            out.writeShort(constantPool.utf8(descriptor((Class<?>) value)));
+        } else if (type.isEnum()) {
+            out.writeByte('e');
+            out.writeShort(constantPool.utf8(descriptor(type)));
+            out.writeShort(constantPool.utf8(((Enum<?>) value).name()));
+        } else if (type.isAnnotation()) {
+            out.writeByte('@');
+            writeAnnotation(out, (Annotation) value);
+        } else if (type.isArray()) {
+            out.writeByte('[');
+            int length = Array.getLength(value);
+            out.writeShort(length);
+            for (int i = 0; i < length; i++) {
+                writeElementValue(out, type.getComponentType(), Array.get(value, i));
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported annotation element type " + type.getName());
+        }
+    }
+
+    private static Object elementValue(Annotation annotation, Method element) {
+        try {
+            return element.invoke(annotation);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot read " + element.getName() + " of " + annotation, e);
+        }
+    }
+
+    private static List<Annotation> runtimeAnnotations(Collection<Annotation> annotations) {
+        List<Annotation> runtimeAnnotations = new ArrayList<>();
+        if (annotations != null) {
+            for (Annotation annotation : annotations) {
+                Retention retention = annotation.annotationType().getAnnotation(Retention.class);
+                if (retention != null && retention.value() == RetentionPolicy.RUNTIME) {
+                    runtimeAnnotations.add(annotation);
+                }
+            }
+        }
+        return runtimeAnnotations;
+    }
+
+    private static byte[] returnDefaultValue(Class<?> returnType) {
+        if (returnType == void.class) {
+            return new byte[]{(byte) 0xB1}; // return
+        } else if (returnType == long.class) {
+            return new byte[]{0x09, (byte) 0xAD}; // lconst_0, lreturn
+        } else if (returnType == float.class) {
+            return new byte[]{0x0B, (byte) 0xAE}; // fconst_0, freturn
+        } else if (returnType == double.class) {
+            return new byte[]{0x0E, (byte) 0xAF}; // dconst_0, dreturn
+        } else if (returnType.isPrimitive()) {
+            return new byte[]{0x03, (byte) 0xAC}; // iconst_0, ireturn
+        }
+        return new byte[]{0x01, (byte) 0xB0}; // aconst_null, areturn
+    }
+
+    private static int slots(Class<?>[] parameterTypes) {
+        int slots = 0;
+        for (Class<?> parameterType : parameterTypes) {
+            slots += parameterType == long.class || parameterType == double.class ? 2 : 1;
+        }
+        return slots;
+    }
+
+    private static String methodDescriptor(Class<?>[] parameterTypes, Class<?> returnType) {
+        StringBuilder descriptor = new StringBuilder("(");
+        for (Class<?> parameterType : parameterTypes) {
+            descriptor.append(descriptor(parameterType));
+        }
+        return descriptor.append(')').append(descriptor(returnType)).toString();
+    }
+
+    private static String descriptor(Class<?> type) {
+        if (type.isPrimitive()) {
+            if (type == boolean.class) return "Z";
+            if (type == byte.class) return "B";
+            if (type == char.class) return "C";
+            if (type == short.class) return "S";
+            if (type == int.class) return "I";
+            if (type == long.class) return "J";
+            if (type == float.class) return "F";
+            if (type == double.class) return "D";
+            return "V";
+        }
+        if (type.isArray()) {
+            return internalName(type.getName());
+        }
+        return "L" + internalName(type.getName()) + ";";
+    }
+
+    private static String internalName(String className) {
+        return className.replace('.', '/');
+    }
+
+    private static void write(ByteArrayOutputStream target, DataWriter dataWriter) {
+        try {
+            DataOutputStream out = new DataOutputStream(target);
+            dataWriter.write(out);
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private interface DataWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static class Code {
+
+        private final int maxStack;
+
+        private final int maxLocals;
+
+        private final byte[] bytecode;
+
+        private Code(int maxStack, int maxLocals, byte[] bytecode) {
+            this.maxStack = maxStack;
+            this.maxLocals = maxLocals;
+            this.bytecode = bytecode;
+        }
+    }
+
+    /**
+     * Constant pool, each constant is written once
+     */
+    private static class ConstantPool {
+
+        private final Map<String, Integer> indexes = new HashMap<>();
+
+        private final ByteArrayOutputStream constants = new ByteArrayOutputStream();
+
+        private int count = 1;
+
+        int utf8(String value) {
+            return constant("U" + value, 1, out -> {
+                out.writeByte(CONSTANT_UTF8);
+                out.writeUTF(value);
+            });
+        }
+
+        int integer(int value) {
+            return constant("I" + value, 1, out -> {
+                out.writeByte(CONSTANT_INTEGER);
+                out.writeInt(value);
+            });
+        }
+
+        int floatValue(float value) {
+            return constant("F" + Float.floatToRawIntBits(value), 1, out -> {
+                out.writeByte(CONSTANT_FLOAT);
+                out.writeFloat(value);
+            });
+        }
+
+        int longValue(long value) {
+            return constant("J" + value, 2, out -> {
+                out.writeByte(CONSTANT_LONG);
+                out.writeLong(value);
+            });
+        }
+
+        int doubleValue(double value) {
+            return constant("D" + Double.doubleToRawLongBits(value), 2, out -> {
+                out.writeByte(CONSTANT_DOUBLE);
+                out.writeDouble(value);
+            });
+        }
+
+        int classRef(String internalName) {
+            int name = utf8(internalName);
+            return constant("C" + internalName, 1, out -> {
+                out.writeByte(CONSTANT_CLASS);
+                out.writeShort(name);
+            });
+        }
+
+        int methodRef(String owner, String name, String descriptor) {
+            int ownerClass = classRef(owner);
+            int nameIndex = utf8(name);
+            int descriptorIndex = utf8(descriptor);
+            int nameAndType = constant("N" + name + descriptor, 1, out -> {
+                out.writeByte(CONSTANT_NAME_AND_TYPE);
+                out.writeShort(nameIndex);
+                out.writeShort(descriptorIndex);
+            });
+            return constant("M" + owner + "." + name + descriptor, 1, out -> {
+                out.writeByte(CONSTANT_METHODREF);
+                out.writeShort(ownerClass);
+                out.writeShort(nameAndType);
+            });
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeShort(count);
+            constants.writeTo(out);
+        }
+
+        private int constant(String key, int size, DataWriter dataWriter) {
+            Integer index = indexes.get(key);
+            if (index == null) {
+                index = count;
+                write(constants, dataWriter);
+                count += size;
+                indexes.put(key, index);
+            }
+            return index;
+        }
+    }
+}
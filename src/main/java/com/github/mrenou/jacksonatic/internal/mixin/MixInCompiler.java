@@ -0,0 +1,218 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.mixin;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+import com.github.mrenou.jacksonatic.exception.MixInCompilationException;
+import com.github.mrenou.jacksonatic.internal.JacksonOperation;
+import com.github.mrenou.jacksonatic.internal.annotations.Annotations;
+import com.github.mrenou.jacksonatic.internal.annotations.ClassAnnotationDecorator;
+import com.github.mrenou.jacksonatic.internal.introspection.AnnotatedClassConstructor;
+import com.github.mrenou.jacksonatic.internal.mapping.ClassMappingInternal;
+import com.github.mrenou.jacksonatic.internal.mapping.ClassesMapping;
+import com.github.mrenou.jacksonatic.internal.mapping.builder.ClassBuilderMapping;
+import com.github.mrenou.jacksonatic.internal.mapping.method.MethodSignature;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.github.mrenou.jacksonatic.annotation.JacksonaticJsonIgnore.jsonIgnore;
+import static com.github.mrenou.jacksonatic.internal.JacksonOperation.*;
+import static com.github.mrenou.jacksonatic.internal.mapping.method.MethodSignature.methodSignature;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Compile the class mappings into mix-in classes, registered in the object mapper with
+ * {@link ObjectMapper#addMixIn(Class, Class)}. Jackson introspects then the classes with its own class introspector.
+ * <p>
+ * A mix-in is generated for each mapped class and each named sub type, with the annotations of its merged class
+ * mapping. Jackson applies the mix-ins of super types too, so an annotation {@link JsonIgnore} coming from the mix-in of
+ * a super type is cancelled in the mix-in of the sub type when its own mapping doesn't ignore the member.
+ * <p>
+ * Sub types neither mapped nor named only get the mix-ins of their super types.
+ */
+public class MixInCompiler {
+
+    private static final String MIX_IN_PACKAGE = "jacksonatic.mixin.";
+
+    private final AnnotatedClassConstructor annotatedClassConstructor;
+
+    private final ClassAnnotationDecorator classAnnotationDecorator = new ClassAnnotationDecorator();
+
+    private final Map<ClassLoader, MixInClassLoader> classLoaders = new HashMap<>();
+
+    public MixInCompiler(AnnotatedClassConstructor annotatedClassConstructor) {
+        this.annotatedClassConstructor = annotatedClassConstructor;
+    }
+
+    public static void registerIn(ObjectMapper objectMapper, Map<Class<?>, Class<?>> mixIns) {
+        mixIns.keySet().forEach(type -> checkNoOtherMixIn(objectMapper, type));
+        mixIns.forEach(objectMapper::addMixIn);
+    }
+
+    /**
+     * @return the mix-in of each mapped class
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Class<?>, Class<?>> compile() {
+        checkNoMappingForOneOperation(SERIALIZATION);
+        checkNoMappingForOneOperation(DESERIALIZATION);
+        Deque<Class<Object>> types = new ArrayDeque<>(annotatedClassConstructor.getClassesMappingByOperation().get(ANY).keySet());
+        Map<Class<Object>, MixInDefinition> definitions = new LinkedHashMap<>();
+        while (!types.isEmpty()) {
+            Class<Object> type = types.poll();
+            if (!type.getName().startsWith("java.") && !definitions.containsKey(type)) {
+                annotatedClassConstructor.getMergedClassMapping(SERIALIZATION, type).ifPresent(classMapping -> {
+                    definitions.put(type, define(classMapping));
+                    Optional.ofNullable((JsonSubTypes) classMapping.getAnnotations().get(JsonSubTypes.class))
+                            .ifPresent(jsonSubTypes -> Arrays.stream(jsonSubTypes.value()).forEach(subType -> types.add((Class<Object>) subType.value())));
+                });
+            }
+        }
+        definitions.forEach((type, definition) -> cancelIgnoreOfSuperTypes(type, definition, definitions));
+        Map<Class<?>, Class<?>> mixIns = new LinkedHashMap<>();
+        definitions.forEach((type, definition) -> mixIns.put(type, defineClass(type, definition)));
+        return mixIns;
+    }
+
+    private void checkNoMappingForOneOperation(JacksonOperation operation) {
+        ClassesMapping classesMapping = annotatedClassConstructor.getClassesMappingByOperation().get(operation);
+        classesMapping.forEach((type, classMapping) -> {
+            if (!classMapping.isEmpty()) {
+                throw new MixInCompilationException(String.format("Cannot compile mapping of %s defined only for %s", type.getName(), operation.name().toLowerCase()));
+            }
+        });
+    }
+
+    private static void checkNoOtherMixIn(ObjectMapper objectMapper, Class<?> type) {
+        Class<?> mixIn = objectMapper.findMixInClassFor(type);
+        if (mixIn != null && !(mixIn.getClassLoader() instanceof MixInClassLoader)) {
+            throw new MixInCompilationException(String.format("Cannot compile mapping of %s, mix-in %s is already registered", type.getName(), mixIn.getName()));
+        }
+    }
+
+    private MixInDefinition define(ClassMappingInternal<Object> classMapping) {
+        AnnotatedClass annotatedClass = AnnotatedClass.construct(classMapping.getType(), null, null);
+        Annotations classAnnotations = classMapping.getAnnotations();
+        Optional<JsonPropertyOrder> propertyOrder = classAnnotationDecorator.getPropertyOrder(annotatedClass, classMapping, classMapping);
+        if (propertyOrder.isPresent()) {
+            classAnnotations = classAnnotations.copy();
+            classAnnotations.put(JsonPropertyOrder.class, propertyOrder.get());
+        }
+        MixInDefinition definition = new MixInDefinition(classAnnotations);
+        for (AnnotatedField annotatedField : annotatedClass.fields()) {
+            definition.fields.put(annotatedField.getName(), classAnnotationDecorator.getFieldAnnotations(classMapping, annotatedField.getName()).copy());
+        }
+        for (AnnotatedMethod annotatedMethod : annotatedClass.memberMethods()) {
+            MethodSignature methodSignature = methodSignature(annotatedMethod.getName(), annotatedMethod.getRawParameterTypes());
+            definition.methods.put(methodSignature, annotatedMethod);
+            definition.methodsAnnotations.put(methodSignature, ClassAnnotationDecorator.getMethodMapping(classMapping, annotatedMethod.getName(), annotatedMethod.getRawParameterTypes())
+                    .map(methodMapping -> methodMapping.getAnnotations().copy())
+                    .orElseGet(Annotations::new));
+        }
+        definition.classBuilderMapping = classAnnotationDecorator.getClassBuilderMapping(DESERIALIZATION, classMapping);
+        return definition;
+    }
+
+    private void cancelIgnoreOfSuperTypes(Class<?> type, MixInDefinition definition, Map<Class<Object>, MixInDefinition> definitions) {
+        for (Class<?> superType : ClassUtil.findSuperTypes(type, null)) {
+            MixInDefinition superDefinition = definitions.get(superType);
+            if (superDefinition != null) {
+                cancelIgnore(definition.fields, superDefinition.fields);
+                cancelIgnore(definition.methodsAnnotations, superDefinition.methodsAnnotations);
+            }
+        }
+    }
+
+    private static <K> void cancelIgnore(Map<K, Annotations> annotationsByMember, Map<K, Annotations> superAnnotationsByMember) {
+        superAnnotationsByMember.forEach((member, superAnnotations) -> {
+            Annotations annotations = annotationsByMember.get(member);
+            if (annotations != null && superAnnotations.containsKey(JsonIgnore.class) && !annotations.containsKey(JsonIgnore.class)) {
+                annotations.add(jsonIgnore(false));
+            }
+        });
+    }
+
+    private Class<?> defineClass(Class<?> type, MixInDefinition definition) {
+        String className = MIX_IN_PACKAGE + type.getName();
+        MixInClassWriter classWriter = new MixInClassWriter(className);
+        classWriter.setClassAnnotations(definition.classAnnotations.values());
+        definition.fields.forEach((name, annotations) -> {
+            if (!annotations.isEmpty()) {
+                classWriter.addField(name, annotations.values());
+            }
+        });
+        definition.methodsAnnotations.forEach((methodSignature, annotations) -> {
+            if (!annotations.isEmpty()) {
+                AnnotatedMethod annotatedMethod = definition.methods.get(methodSignature);
+                classWriter.addMethod(annotatedMethod.getName(), annotatedMethod.getRawParameterTypes(), annotatedMethod.getRawReturnType(), annotations.values());
+            }
+        });
+        definition.classBuilderMapping.ifPresent(classBuilderMapping -> {
+            List<Collection<Annotation>> parametersAnnotations = classBuilderMapping.getParametersMapping().stream()
+                    .map(parameterMapping -> parameterMapping.getAnnotations().values())
+                    .collect(toList());
+            if (classBuilderMapping.isStaticFactory()) {
+                classWriter.addStaticFactory(classBuilderMapping.getName(), classBuilderMapping.getParameterTypes(), classBuilderMapping.getStaticFactory().getReturnType(),
+                        classBuilderMapping.getAnnotations().values(), parametersAnnotations);
+            } else {
+                classWriter.addConstructor(classBuilderMapping.getParameterTypes(), classBuilderMapping.getAnnotations().values(), parametersAnnotations);
+            }
+        });
+        try {
+            return classLoaderFor(type).define(className, classWriter.toByteArray());
+        } catch (LinkageError | IllegalArgumentException e) {
+            throw new MixInCompilationException(String.format("Cannot define mix-in of %s", type.getName()), e);
+        }
+    }
+
+    private MixInClassLoader classLoaderFor(Class<?> type) {
+        ClassLoader classLoader = Optional.ofNullable(type.getClassLoader()).orElse(MixInCompiler.class.getClassLoader());
+        return classLoaders.computeIfAbsent(classLoader, MixInClassLoader::new);
+    }
+
+    private static class MixInDefinition {
+
+        private final Annotations classAnnotations;
+
+        private final Map<String, Annotations> fields = new LinkedHashMap<>();
+
+        private final Map<MethodSignature, AnnotatedMethod> methods = new HashMap<>();
+
+        private final Map<MethodSignature, Annotations> methodsAnnotations = new LinkedHashMap<>();
+
+        private Optional<ClassBuilderMapping> classBuilderMapping = Optional.empty();
+
+        private MixInDefinition(Annotations classAnnotations) {
+            this.classAnnotations = classAnnotations;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.polymorphism;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DatabindContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.jsontype.impl.TypeIdResolverBase;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Resolve the compact type ids of a polymorphic type: sub types named with a small non negative integer are found back
+ * by their index in an array, and their id is written as a number by {@link CompactTypeSerializer}. When the ids are
+ * sparse, sub types are found in a map instead, so that the size of the array doesn't depend on the greatest id.
+ * <p>
+ * Sub types having another name are resolved by name, like the default resolver does.
+ */
+public class CompactTypeIdResolver extends TypeIdResolverBase {
+
+    /**
+     * Greatest number of digits of an id, so that any id fits in an int
+     */
+    private static final int MAX_ID_LENGTH = 9;
+
+    /**
+     * Greatest compact type id, the greatest number of {@link #MAX_ID_LENGTH} digits
+     */
+    public static final int MAX_TYPE_ID = 999_999_999;
+
+    /**
+     * Greatest number of slots of the array of types by id for each id, beyond which ids are sparse
+     */
+    private static final int MAX_SLOTS_BY_ID = 4;
+
+    /**
+     * Ids are never sparse below this number of slots
+     */
+    private static final int MIN_SLOTS = 64;
+
+    private final JavaType[] typesById;
+
+    private final Map<Integer, JavaType> sparseTypesById;
+
+    private final Map<String, JavaType> typesByName;
+
+    private final Map<Class<?>, String> compactIdsByType;
+
+    private final Map<Class<?>, String> namesByType;
+
+    public CompactTypeIdResolver(MapperConfig<?> config, JavaType baseType, Collection<NamedType> subTypes) {
+        super(baseType, config.getTypeFactory());
+        Map<Integer, JavaType> typesById = new HashMap<>();
+        typesByName = new HashMap<>();
+        compactIdsByType = new HashMap<>();
+        namesByType = new HashMap<>();
+        int maxId = -1;
+        for (NamedType subType : subTypes) {
+            if (!subType.hasName()) {
+                continue;
+            }
+            Class<?> type = subType.getType();
+            String name = subType.getName();
+            int id = parseTypeId(name);
+            if (id >= 0) {
+                compactIdsByType.put(type, name);
+                putMostSpecific(typesById, id, config.constructType(type));
+                maxId = Math.max(maxId, id);
+            } else {
+                namesByType.put(type, name);
+                putMostSpecific(typesByName, name, config.constructType(type));
+            }
+        }
+        if (maxId < Math.max(MIN_SLOTS, typesById.size() * MAX_SLOTS_BY_ID)) {
+            this.typesById = new JavaType[maxId + 1];
+            typesById.forEach((id, type) -> this.typesById[id] = type);
+            this.sparseTypesById = null;
+        } else {
+            this.typesById = new JavaType[0];
+            this.sparseTypesById = typesById;
+        }
+    }
+
+    private static <K> void putMostSpecific(Map<K, JavaType> types, K key, JavaType type) {
+        JavaType previousType = types.get(key);
+        if (previousType == null || !type.getRawClass().isAssignableFrom(previousType.getRawClass())) {
+            types.put(key, type);
+        }
+    }
+
+    /**
+     * @return true if the name is a compact type id, a non negative integer written in decimal
+     */
+    public static boolean isTypeId(String name) {
+        return parseTypeId(name) >= 0;
+    }
+
+    /**
+     * @return the value of the compact type id, or -1 if the id is not a compact type id
+     */
+    static int parseTypeId(String id) {
+        int length = id.length();
+        if (length == 0 || length > MAX_ID_LENGTH) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = 0; i < length; i++) {
+            int digit = id.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    @Override
+    public JsonTypeInfo.Id getMechanism() {
+        return JsonTypeInfo.Id.NAME;
+    }
+
+    /**
+     * @return the compact type id of the type, or null if the type has no compact type id
+     */
+    public String compactIdOf(Class<?> type) {
+        return compactIdsByType.get(type);
+    }
+
+    @Override
+    public String idFromValue(Object value) {
+        Class<?> type = value.getClass();
+        String id = compactIdsByType.get(type);
+        if (id == null) {
+            id = namesByType.get(type);
+        }
+        return id != null ? id : TypeIdTable.defaultTypeId(type);
+    }
+
+    @Override
+    public String idFromValueAndType(Object value, Class<?> suggestedType) {
+        return value == null ? null : idFromValue(value);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public JavaType typeFromId(String id) {
+        int index = parseTypeId(id);
+        if (index >= 0) {
+            if (sparseTypesById != null) {
+                return sparseTypesById.get(index);
+            }
+            return index < typesById.length ? typesById[index] : null;
+        }
+        return typesByName.get(id);
+    }
+
+    @Override
+    public JavaType typeFromId(DatabindContext context, String id) {
+        return typeFromId(id);
+    }
+
+    @Override
+    public String getDescForKnownTypeIds() {
+        Set<String> knownIds = new TreeSet<>(typesByName.keySet());
+        for (int id = 0; id < typesById.length; id++) {
+            if (typesById[id] != null) {
+                knownIds.add(String.valueOf(id));
+            }
+        }
+        if (sparseTypesById != null) {
+            sparseTypesById.keySet().forEach(id -> knownIds.add(String.valueOf(id)));
+        }
+        return knownIds.toString();
+    }
+}
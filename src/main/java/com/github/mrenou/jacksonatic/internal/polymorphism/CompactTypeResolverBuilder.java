@@ -0,0 +1,56 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.polymorphism;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.jsontype.impl.StdTypeResolverBuilder;
+
+import java.util.Collection;
+
+/**
+ * Type resolver builder of the polymorphic types mapped with compact type ids, set on the type by
+ * {@link com.fasterxml.jackson.databind.annotation.JsonTypeResolver}.
+ * <p>
+ * Type ids defined by name with a type property are resolved by {@link CompactTypeIdResolver} and written by
+ * {@link CompactTypeSerializer}. Reading needs nothing more, Jackson reads the text of a number as the type id.
+ */
+public class CompactTypeResolverBuilder extends StdTypeResolverBuilder {
+
+    @Override
+    public TypeSerializer buildTypeSerializer(SerializationConfig config, JavaType baseType, Collection<NamedType> subtypes) {
+        if (_idType == JsonTypeInfo.Id.NAME && _includeAs == JsonTypeInfo.As.PROPERTY) {
+            TypeIdResolver idResolver = idResolver(config, baseType, subtypes, true, false);
+            if (idResolver instanceof CompactTypeIdResolver) {
+                return new CompactTypeSerializer((CompactTypeIdResolver) idResolver, null, _typeProperty);
+            }
+        }
+        return super.buildTypeSerializer(config, baseType, subtypes);
+    }
+
+    @Override
+    protected TypeIdResolver idResolver(MapperConfig<?> config, JavaType baseType, Collection<NamedType> subtypes, boolean forSer, boolean forDeser) {
+        if (_customIdResolver == null && _idType == JsonTypeInfo.Id.NAME) {
+            return new CompactTypeIdResolver(config, baseType, subtypes);
+        }
+        return super.idResolver(config, baseType, subtypes, forSer, forDeser);
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.polymorphism;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.jsontype.impl.AsPropertyTypeSerializer;
+
+import java.io.IOException;
+
+/**
+ * Write the compact type id of a value as a number in the type property, and any other type id as a string.
+ */
+class CompactTypeSerializer extends AsPropertyTypeSerializer {
+
+    private final CompactTypeIdResolver compactTypeIdResolver;
+
+    CompactTypeSerializer(CompactTypeIdResolver compactTypeIdResolver, BeanProperty property, String propertyName) {
+        super(compactTypeIdResolver, property, propertyName);
+        this.compactTypeIdResolver = compactTypeIdResolver;
+    }
+
+    @Override
+    public AsPropertyTypeSerializer forProperty(BeanProperty property) {
+        return _property == property ? this : new CompactTypeSerializer(compactTypeIdResolver, property, _typePropertyName);
+    }
+
+    @Override
+    public void writeTypePrefixForObject(Object value, JsonGenerator jgen) throws IOException {
+        String id = compactTypeIdResolver.compactIdOf(value.getClass());
+        if (id == null || jgen.canWriteTypeId()) {
+            super.writeTypePrefixForObject(value, jgen);
+        } else {
+            writeCompactTypePrefix(id, jgen);
+        }
+    }
+
+    @Override
+    public void writeTypePrefixForObject(Object value, JsonGenerator jgen, Class<?> type) throws IOException {
+        String id = compactTypeIdResolver.compactIdOf(value.getClass());
+        if (id == null || jgen.canWriteTypeId()) {
+            super.writeTypePrefixForObject(value, jgen, type);
+        } else {
+            writeCompactTypePrefix(id, jgen);
+        }
+    }
+
+    private void writeCompactTypePrefix(String id, JsonGenerator jgen) throws IOException {
+        jgen.writeStartObject();
+        jgen.writeFieldName(_typePropertyName);
+        jgen.writeNumber(id);
+    }
+}
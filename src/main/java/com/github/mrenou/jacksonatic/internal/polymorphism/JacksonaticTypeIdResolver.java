@@ -0,0 +1,125 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.polymorphism;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DatabindContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.annotation.JsonTypeIdResolver;
+import com.fasterxml.jackson.databind.annotation.JsonTypeResolver;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.jsontype.impl.TypeIdResolverBase;
+import com.github.mrenou.jacksonatic.internal.JacksonOperation;
+import com.github.mrenou.jacksonatic.internal.mapping.ClassesMapping;
+import com.github.mrenou.jacksonatic.internal.util.TypedHashMap;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.github.mrenou.jacksonatic.annotation.JacksonaticJsonTypeResolver.jsonTypeResolver;
+
+/**
+ * Resolve the type ids of a mapped polymorphic type, named with {@link JsonTypeInfo.Id#NAME}, with a {@link TypeIdTable}
+ * built once for the type instead of the maps of the default resolver.
+ * <p>
+ * Instances are created by {@link TypeIdTableResolverBuilder}.
+ */
+public class JacksonaticTypeIdResolver extends TypeIdResolverBase {
+
+    private final MapperConfig<?> config;
+
+    private final TypeIdTable typeIdTable;
+
+    /**
+     * Ids of the classes which are not known sub types, found like the default resolver does
+     */
+    private final Map<Class<?>, String> otherIds = new ConcurrentHashMap<>();
+
+    public JacksonaticTypeIdResolver(MapperConfig<?> config, JavaType baseType, TypeIdTable typeIdTable) {
+        super(baseType, config.getTypeFactory());
+        this.config = config;
+        this.typeIdTable = typeIdTable;
+    }
+
+    /**
+     * Set {@link TypeIdTableResolverBuilder} on the class mappings defining a type info by name, or
+     * {@link TypeIdFirstTableResolverBuilder} on the ones mapped with {@link TypeIdFirstResolverBuilder}, unless the type
+     * defines its own type id resolver or another type resolver builder.
+     */
+    public static void attachTo(TypedHashMap<JacksonOperation, ClassesMapping> classesMappingByOperation) {
+        classesMappingByOperation.values().forEach(classesMapping -> classesMapping.forEach((type, classMapping) -> {
+            boolean typeInfoByName = classMapping.getAnnotationOpt(JsonTypeInfo.class)
+                    .map(jsonTypeInfo -> jsonTypeInfo.use() == JsonTypeInfo.Id.NAME)
+                    .orElse(false);
+            Class<?> typeResolverBuilder = classMapping.getAnnotationOpt(JsonTypeResolver.class)
+                    .<Class<?>>map(JsonTypeResolver::value)
+                    .orElse(null);
+            if (typeInfoByName
+                    && (typeResolverBuilder == null || typeResolverBuilder == TypeIdFirstResolverBuilder.class)
+                    && !classMapping.hasAnnotation(JsonTypeIdResolver.class)
+                    && !type.isAnnotationPresent(JsonTypeIdResolver.class) && !type.isAnnotationPresent(JsonTypeResolver.class)) {
+                classMapping.getAnnotations().add(jsonTypeResolver(typeResolverBuilder == null ? TypeIdTableResolverBuilder.class : TypeIdFirstTableResolverBuilder.class));
+            }
+        }));
+    }
+
+    @Override
+    public JsonTypeInfo.Id getMechanism() {
+        return JsonTypeInfo.Id.NAME;
+    }
+
+    @Override
+    public String idFromValue(Object value) {
+        return idFromClass(value.getClass());
+    }
+
+    @Override
+    public String idFromValueAndType(Object value, Class<?> suggestedType) {
+        return value == null ? null : idFromValue(value);
+    }
+
+    private String idFromClass(Class<?> type) {
+        String id = typeIdTable.idOf(type);
+        if (id == null) {
+            id = otherIds.computeIfAbsent(type, this::findId);
+        }
+        return id;
+    }
+
+    private String findId(Class<?> type) {
+        String id = null;
+        if (config.isAnnotationProcessingEnabled()) {
+            id = config.getAnnotationIntrospector().findTypeName(config.introspectClassAnnotations(type).getClassInfo());
+        }
+        return id != null ? id : TypeIdTable.defaultTypeId(type);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public JavaType typeFromId(String id) {
+        return typeIdTable.typeOf(id);
+    }
+
+    @Override
+    public JavaType typeFromId(DatabindContext context, String id) {
+        return typeIdTable.typeOf(id);
+    }
+
+    @Override
+    public String getDescForKnownTypeIds() {
+        return typeIdTable.ids().toString();
+    }
+}
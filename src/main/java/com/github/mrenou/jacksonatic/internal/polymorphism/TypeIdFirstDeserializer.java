@@ -0,0 +1,83 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.polymorphism;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
+import com.fasterxml.jackson.databind.jsontype.impl.AsPropertyTypeDeserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+
+/**
+ * Read the type property of a polymorphic type whose objects are expected to start with their type id.
+ * <p>
+ * When the type property is the first property, the type id is read and the object is given to the deserializer of
+ * the sub type without being buffered. Any other object is reported, then read like Jackson does: the properties
+ * before the type property are buffered.
+ * <p>
+ * Reported objects are counted in the {@link TypeIdNotFirstCounts} of the object mapper. The first one of each base
+ * type is logged as a warning, the next ones at debug level.
+ */
+public class TypeIdFirstDeserializer extends AsPropertyTypeDeserializer {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TypeIdFirstDeserializer.class);
+
+    public TypeIdFirstDeserializer(JavaType baseType, TypeIdResolver idRes, String typePropertyName, boolean typeIdVisible, Class<?> defaultImpl) {
+        super(baseType, idRes, typePropertyName, typeIdVisible, defaultImpl);
+    }
+
+    private TypeIdFirstDeserializer(TypeIdFirstDeserializer src, BeanProperty property) {
+        super(src, property);
+    }
+
+    @Override
+    public TypeDeserializer forProperty(BeanProperty prop) {
+        return prop == _property ? this : new TypeIdFirstDeserializer(this, prop);
+    }
+
+    @Override
+    public Object deserializeTypedFromObject(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken t = p.getCurrentToken();
+        if (t == JsonToken.START_OBJECT) {
+            t = p.nextToken();
+        }
+        if (t == JsonToken.FIELD_NAME && !_typePropertyName.equals(p.getCurrentName())) {
+            reportTypeIdNotFirst(p.getCurrentName(), TypeIdNotFirstCounts.of(ctxt));
+        }
+        return super.deserializeTypedFromObject(p, ctxt);
+    }
+
+    private void reportTypeIdNotFirst(String firstPropertyName, TypeIdNotFirstCounts typeIdNotFirstCounts) {
+        Class<?> baseType = _baseType.getRawClass();
+        long count = typeIdNotFirstCounts == null ? 0 : typeIdNotFirstCounts.increment(baseType);
+        if (count == 1) {
+            LOGGER.warn("Type property '{}' of {} is not the first property of the object, '{}' is found first. The object is buffered, next ones are logged at debug level",
+                    _typePropertyName, baseType.getName(), firstPropertyName);
+        } else {
+            LOGGER.debug("Type property '{}' of {} is not the first property of the object, '{}' is found first. The object is buffered ({} times so far)",
+                    _typePropertyName, baseType.getName(), firstPropertyName, count);
+        }
+    }
+}
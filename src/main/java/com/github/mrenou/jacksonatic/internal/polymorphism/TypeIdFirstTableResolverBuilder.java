@@ -0,0 +1,38 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.polymorphism;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+
+import java.util.Collection;
+
+/**
+ * {@link TypeIdTableResolverBuilder} reading the type ids like {@link TypeIdFirstResolverBuilder}.
+ */
+public class TypeIdFirstTableResolverBuilder extends TypeIdTableResolverBuilder {
+
+    @Override
+    public TypeDeserializer buildTypeDeserializer(DeserializationConfig config, JavaType baseType, Collection<NamedType> subtypes) {
+        if (_idType != JsonTypeInfo.Id.NONE && _includeAs == JsonTypeInfo.As.PROPERTY) {
+            return new TypeIdFirstDeserializer(baseType, idResolver(config, baseType, subtypes, false, true), _typeProperty, _typeIdVisible, _defaultImpl);
+        }
+        return super.buildTypeDeserializer(config, baseType, subtypes);
+    }
+}
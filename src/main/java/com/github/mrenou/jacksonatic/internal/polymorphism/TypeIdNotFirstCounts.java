@@ -0,0 +1,60 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.polymorphism;
+
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Number of objects read without their type id as first property, by base type, in the object mappers a mapping
+ * snapshot is registered in.
+ * <p>
+ * The counts are set as an attribute of the deserialization config of each object mapper, where
+ * {@link TypeIdFirstDeserializer} finds them. An object mapper counts for the last snapshot reading type ids first
+ * registered in it.
+ */
+public class TypeIdNotFirstCounts {
+
+    private final Map<Class<?>, AtomicLong> counts = new ConcurrentHashMap<>();
+
+    public void registerIn(ObjectMapper objectMapper) {
+        objectMapper.setConfig(objectMapper.getDeserializationConfig().withAttribute(TypeIdNotFirstCounts.class, this));
+    }
+
+    /**
+     * @return counts of the object mapper reading, null if none is registered in it
+     */
+    public static TypeIdNotFirstCounts of(DeserializationContext ctxt) {
+        Object counts = ctxt.getAttribute(TypeIdNotFirstCounts.class);
+        return counts instanceof TypeIdNotFirstCounts ? (TypeIdNotFirstCounts) counts : null;
+    }
+
+    /**
+     * @return number of objects of the base type read without their type id first, including this one
+     */
+    public long increment(Class<?> baseType) {
+        return counts.computeIfAbsent(baseType, type -> new AtomicLong()).incrementAndGet();
+    }
+
+    public long get(Class<?> baseType) {
+        AtomicLong count = counts.get(baseType);
+        return count == null ? 0 : count.get();
+    }
+}
@@ -0,0 +1,147 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.polymorphism;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Immutable table of the type ids of a polymorphic type and its sub types, in both directions.
+ * <p>
+ * Ids are stored in an open addressing table, which grows until no two ids share a slot or the table has 16 slots by
+ * id, so most lookups hash the id once and compare it once. Types are found by class identity.
+ * <p>
+ * Ids are resolved like Jackson does by default: the name of the sub type when defined, else its simple class name.
+ * When an id is used by several types, deserialization keeps the most specific one.
+ */
+public class TypeIdTable {
+
+    private static final int MAX_SLOTS_BY_ID = 16;
+
+    private final String[] ids;
+
+    private final JavaType[] types;
+
+    private final int mask;
+
+    private final Map<Class<?>, String> idsByType;
+
+    private TypeIdTable(String[] ids, JavaType[] types, Map<Class<?>, String> idsByType) {
+        this.ids = ids;
+        this.types = types;
+        this.mask = ids.length - 1;
+        this.idsByType = idsByType;
+    }
+
+    public static TypeIdTable of(MapperConfig<?> config, Collection<NamedType> subTypes) {
+        Map<Class<?>, String> idsByType = new HashMap<>();
+        Map<String, JavaType> typesById = new LinkedHashMap<>();
+        for (NamedType subType : subTypes) {
+            Class<?> type = subType.getType();
+            String id = subType.hasName() ? subType.getName() : defaultTypeId(type);
+            idsByType.put(type, id);
+            JavaType previousType = typesById.get(id);
+            if (previousType == null || !type.isAssignableFrom(previousType.getRawClass())) {
+                typesById.put(id, config.constructType(type));
+            }
+        }
+        int capacity = Integer.highestOneBit(Math.max(1, typesById.size()) * 2 - 1) << 1;
+        while (hasCollision(typesById.keySet(), capacity) && capacity < typesById.size() * MAX_SLOTS_BY_ID) {
+            capacity <<= 1;
+        }
+        String[] ids = new String[capacity];
+        JavaType[] types = new JavaType[capacity];
+        for (Map.Entry<String, JavaType> typeById : typesById.entrySet()) {
+            int slot = hash(typeById.getKey()) & (capacity - 1);
+            while (ids[slot] != null) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            ids[slot] = typeById.getKey();
+            types[slot] = typeById.getValue();
+        }
+        return new TypeIdTable(ids, types, idsByType);
+    }
+
+    private static boolean hasCollision(Set<String> ids, int capacity) {
+        boolean[] used = new boolean[capacity];
+        for (String id : ids) {
+            int slot = hash(id) & (capacity - 1);
+            if (used[slot]) {
+                return true;
+            }
+            used[slot] = true;
+        }
+        return false;
+    }
+
+    private static int hash(String id) {
+        int h = id.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Same default id as Jackson: the class name without its package
+     */
+    static String defaultTypeId(Class<?> type) {
+        String name = type.getName();
+        int index = name.lastIndexOf('.');
+        return index < 0 ? name : name.substring(index + 1);
+    }
+
+    /**
+     * @return the type of the id, or null if the id is unknown
+     */
+    public JavaType typeOf(String id) {
+        int slot = hash(id) & mask;
+        String slotId;
+        while ((slotId = ids[slot]) != null) {
+            if (slotId == id || slotId.equals(id)) {
+                return types[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * @return the id of the type, or null if the type is not a known sub type
+     */
+    public String idOf(Class<?> type) {
+        return idsByType.get(type);
+    }
+
+    public Set<String> ids() {
+        Set<String> knownIds = new TreeSet<>();
+        for (String id : ids) {
+            if (id != null) {
+                knownIds.add(id);
+            }
+        }
+        return knownIds;
+    }
+
+    int slotCount() {
+        return ids.length;
+    }
+}
@@ -0,0 +1,43 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.polymorphism;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
+import com.fasterxml.jackson.databind.jsontype.impl.StdTypeResolverBuilder;
+
+import java.util.Collection;
+
+/**
+ * Type resolver builder of the mapped polymorphic types resolving their type ids with a {@link TypeIdTable}, set on the
+ * type by {@link com.fasterxml.jackson.databind.annotation.JsonTypeResolver}.
+ * <p>
+ * The table is built from the sub types Jackson collects for the type, once by serializer or deserializer of the type.
+ * Nothing is needed from the object mapper, so its handler instantiator can be replaced at any time.
+ */
+public class TypeIdTableResolverBuilder extends StdTypeResolverBuilder {
+
+    @Override
+    protected TypeIdResolver idResolver(MapperConfig<?> config, JavaType baseType, Collection<NamedType> subtypes, boolean forSer, boolean forDeser) {
+        if (_customIdResolver == null && _idType == JsonTypeInfo.Id.NAME) {
+            return new JacksonaticTypeIdResolver(config, baseType, TypeIdTable.of(config, subtypes));
+        }
+        return super.idResolver(config, baseType, subtypes, forSer, forDeser);
+    }
+}
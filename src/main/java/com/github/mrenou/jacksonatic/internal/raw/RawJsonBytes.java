@@ -0,0 +1,119 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.raw;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UTF-8 encoded JSON text given as it is to generators writing bytes, and decoded only for generators writing chars.
+ */
+public class RawJsonBytes implements SerializableString {
+
+    private final byte[] bytes;
+
+    private SerializedString decoded;
+
+    public RawJsonBytes(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    private SerializedString decoded() {
+        if (decoded == null) {
+            decoded = new SerializedString(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return decoded;
+    }
+
+    @Override
+    public String getValue() {
+        return decoded().getValue();
+    }
+
+    @Override
+    public int charLength() {
+        return decoded().charLength();
+    }
+
+    @Override
+    public char[] asQuotedChars() {
+        return decoded().asQuotedChars();
+    }
+
+    @Override
+    public byte[] asUnquotedUTF8() {
+        return bytes;
+    }
+
+    @Override
+    public byte[] asQuotedUTF8() {
+        return decoded().asQuotedUTF8();
+    }
+
+    @Override
+    public int appendQuotedUTF8(byte[] buffer, int offset) {
+        return decoded().appendQuotedUTF8(buffer, offset);
+    }
+
+    @Override
+    public int appendQuoted(char[] buffer, int offset) {
+        return decoded().appendQuoted(buffer, offset);
+    }
+
+    @Override
+    public int appendUnquotedUTF8(byte[] buffer, int offset) {
+        if (offset + bytes.length > buffer.length) {
+            return -1;
+        }
+        System.arraycopy(bytes, 0, buffer, offset, bytes.length);
+        return bytes.length;
+    }
+
+    @Override
+    public int appendUnquoted(char[] buffer, int offset) {
+        return decoded().appendUnquoted(buffer, offset);
+    }
+
+    @Override
+    public int writeQuotedUTF8(OutputStream out) throws IOException {
+        return decoded().writeQuotedUTF8(out);
+    }
+
+    @Override
+    public int writeUnquotedUTF8(OutputStream out) throws IOException {
+        out.write(bytes);
+        return bytes.length;
+    }
+
+    @Override
+    public int putQuotedUTF8(ByteBuffer buffer) throws IOException {
+        return decoded().putQuotedUTF8(buffer);
+    }
+
+    @Override
+    public int putUnquotedUTF8(ByteBuffer buffer) throws IOException {
+        if (bytes.length > buffer.remaining()) {
+            return -1;
+        }
+        buffer.put(bytes);
+        return bytes.length;
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.raw;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Read the JSON value of a {@link String} or a {@code byte[]} property as its UTF-8 encoded JSON text.
+ * <p>
+ * The tokens of the value are copied to a generator, no object is built for the value.
+ */
+public class RawJsonDeserializer extends StdDeserializer<Object> implements ContextualDeserializer {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final boolean asBytes;
+
+    public RawJsonDeserializer() {
+        this(String.class);
+    }
+
+    private RawJsonDeserializer(Class<?> type) {
+        super(type);
+        this.asBytes = type == byte[].class;
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+        Class<?> type = property == null ? String.class : property.getType().getRawClass();
+        if (type != String.class && type != byte[].class) {
+            throw ctxt.mappingException(String.format("Raw JSON property %s must be a String or a byte[], not %s", property.getName(), type.getName()));
+        }
+        return type == _valueClass ? this : new RawJsonDeserializer(type);
+    }
+
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        ByteArrayBuilder bytes = new ByteArrayBuilder();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(bytes)) {
+            generator.copyCurrentStructure(p);
+        }
+        return asBytes ? bytes.toByteArray() : new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
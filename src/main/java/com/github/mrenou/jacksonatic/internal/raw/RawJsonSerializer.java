@@ -0,0 +1,45 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.raw;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Write a {@link String} or a {@code byte[]} property holding UTF-8 encoded JSON text as it is, like
+ * {@link com.fasterxml.jackson.annotation.JsonRawValue} does for a {@link String}.
+ */
+public class RawJsonSerializer extends StdSerializer<Object> {
+
+    public RawJsonSerializer() {
+        super(Object.class);
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (value instanceof byte[]) {
+            gen.writeRawValue(new RawJsonBytes((byte[]) value));
+        } else if (value instanceof String) {
+            gen.writeRawValue((String) value);
+        } else {
+            throw new JsonMappingException(String.format("Raw JSON value must be a String or a byte[], not %s", value.getClass().getName()));
+        }
+    }
+}
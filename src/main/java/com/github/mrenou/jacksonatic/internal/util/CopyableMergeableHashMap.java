@@ -15,10 +15,13 @@
  */
 package com.github.mrenou.jacksonatic.internal.util;
 
-public class CopyableMergeableHashMap<K, V extends Mergeable<V> & Copyable<V>> extends TypedHashMap<K, V> {
+/**
+ * Copies and merges share the entries of the maps they come from, see {@link LayeredHashMap}.
+ */
+public class CopyableMergeableHashMap<K, V extends Mergeable<V> & Copyable<V>> extends LayeredHashMap<K, V> {
 
     public CopyableMergeableHashMap<K, V> copy() {
-        return super.copy(v -> v.copy(), CopyableMergeableHashMap::new);
+        return copyTo(new CopyableMergeableHashMap<>());
     }
 
     public V mergeValueWithKey(V otherValue, K key) {
@@ -26,7 +29,7 @@ public class CopyableMergeableHashMap<K, V extends Mergeable<V> & Copyable<V>> e
     }
 
     public CopyableMergeableHashMap<K, V> mergeWith(CopyableMergeableHashMap<K, V> map) {
-        return MapUtil.merge(this, map);
+        return mergeTo(map, V::mergeWith, new CopyableMergeableHashMap<>());
     }
 
 }
@@ -0,0 +1,307 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Map sharing its entries with its copies and with the maps merged from it.
+ * <p>
+ * Entries are kept in layers. The entries written in a map go into its top layer, which is frozen by {@link #freeze()},
+ * and then shared. A copy of a frozen map costs nothing, and a merge only the entries of the smallest map, stacked on
+ * the layers of the other one. Copies and merges never modify the maps they come from: the entries of a top layer not
+ * frozen yet are copied into a new layer of the target map. A key is looked up from the top layer down, so the layers
+ * are flattened into one once too many are stacked.
+ * <p>
+ * Values of frozen layers are shared too: a value to modify in place is taken with
+ * {@link #getForUpdate(Object, Function)}, which copies it into the top layer first.
+ * <p>
+ * Null keys and values are not supported. Like {@link HashMap}, a map is not thread-safe, but the frozen layers are
+ * never modified, so maps sharing them can be used by different threads, and a map no longer written can be copied and
+ * merged by different threads.
+ */
+public class LayeredHashMap<K, V> extends AbstractMap<K, V> {
+
+    private static final int MAX_DEPTH = 8;
+
+    private static final Object REMOVED = new Object();
+
+    private static final Map<Object, Object> NO_ENTRIES = Collections.emptyMap();
+
+    private Layer frozenLayer;
+
+    private Map<Object, Object> topEntries = NO_ENTRIES;
+
+    private int size;
+
+    public Optional<V> getOpt(K key) {
+        return Optional.ofNullable(get(key));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        Object value = rawGet(key);
+        return value == REMOVED ? null : (V) value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        Object oldValue = writableTopEntries().put(key, value);
+        if (oldValue == null && frozenLayer != null) {
+            oldValue = frozenLayer.lookup(key);
+        }
+        if (oldValue == null || oldValue == REMOVED) {
+            size++;
+            return null;
+        }
+        return (V) oldValue;
+    }
+
+    @Override
+    public V remove(Object key) {
+        V oldValue = get(key);
+        if (oldValue != null) {
+            if (frozenLayer == null) {
+                topEntries.remove(key);
+            } else {
+                writableTopEntries().put(key, REMOVED);
+            }
+            size--;
+        }
+        return oldValue;
+    }
+
+    @Override
+    public void clear() {
+        frozenLayer = null;
+        topEntries = NO_ENTRIES;
+        size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return value of the key, owned by this map and so modifiable in place, or null when the key is absent
+     */
+    @SuppressWarnings("unchecked")
+    public V getForUpdate(K key, Function<V, V> copyFunction) {
+        Object value = topEntries.get(key);
+        if (value != null) {
+            return value == REMOVED ? null : (V) value;
+        }
+        value = frozenLayer == null ? null : frozenLayer.lookup(key);
+        if (value == null || value == REMOVED) {
+            return null;
+        }
+        V valueCopy = copyFunction.apply((V) value);
+        writableTopEntries().put(key, valueCopy);
+        return valueCopy;
+    }
+
+    /**
+     * Share all the layers with the given empty map.
+     */
+    protected <H extends LayeredHashMap<K, V>> H copyTo(H map) {
+        LayeredHashMap<K, V> copy = map;
+        copy.frozenLayer = layers();
+        copy.size = size;
+        if (copy.frozenLayer != null) {
+            copy.flattenIfTooDeep();
+        }
+        return map;
+    }
+
+    /**
+     * Fill the given empty map with the entries of this map and of the other one, merged with the merge function when
+     * a key is in both. Only the entries of the smallest map are walked.
+     */
+    protected <H extends LayeredHashMap<K, V>> H mergeTo(LayeredHashMap<K, V> other, BiFunction<V, V, V> mergeFunction, H map) {
+        if (other.isEmpty()) {
+            return copyTo(map);
+        }
+        if (isEmpty()) {
+            return other.copyTo(map);
+        }
+        boolean thisIsSmaller = size <= other.size;
+        LayeredHashMap<K, V> smallMap = thisIsSmaller ? this : other;
+        LayeredHashMap<K, V> bigMap = thisIsSmaller ? other : this;
+        Map<Object, Object> entries = new HashMap<>();
+        int[] addedCount = {0};
+        smallMap.forEach((key, smallValue) -> {
+            V bigValue = bigMap.get(key);
+            if (bigValue == null) {
+                entries.put(key, smallValue);
+                addedCount[0]++;
+            } else {
+                entries.put(key, thisIsSmaller ? mergeFunction.apply(smallValue, bigValue) : mergeFunction.apply(bigValue, smallValue));
+            }
+        });
+        LayeredHashMap<K, V> merge = map;
+        merge.frozenLayer = new Layer(entries, bigMap.layers());
+        merge.size = bigMap.size + addedCount[0];
+        merge.flattenIfTooDeep();
+        return map;
+    }
+
+    private Map<Object, Object> writableTopEntries() {
+        if (topEntries == NO_ENTRIES) {
+            topEntries = new HashMap<>();
+        }
+        return topEntries;
+    }
+
+    private Object rawGet(Object key) {
+        Object value = topEntries.get(key);
+        if (value == null && frozenLayer != null) {
+            value = frozenLayer.lookup(key);
+        }
+        return value;
+    }
+
+    /**
+     * @return the frozen layers, under a copy of the top layer if it has entries
+     */
+    private Layer layers() {
+        return topEntries.isEmpty() ? frozenLayer : new Layer(new HashMap<>(topEntries), frozenLayer);
+    }
+
+    /**
+     * Freeze the top layer, so that the next copies and merges share all the layers of the map.
+     */
+    public void freeze() {
+        if (!topEntries.isEmpty()) {
+            frozenLayer = new Layer(topEntries, frozenLayer);
+            topEntries = NO_ENTRIES;
+            flattenIfTooDeep();
+        }
+    }
+
+    private void flattenIfTooDeep() {
+        if (frozenLayer.depth > MAX_DEPTH) {
+            Map<Object, Object> entries = new HashMap<>();
+            forEachLayered(entries::put);
+            frozenLayer = new Layer(entries, null);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        forEachLayered((key, value) -> action.accept((K) key, (V) value));
+    }
+
+    private void forEachLayered(BiConsumer<Object, Object> action) {
+        topEntries.forEach((key, value) -> {
+            if (value != REMOVED) {
+                action.accept(key, value);
+            }
+        });
+        for (Layer layer = frozenLayer; layer != null; layer = layer.below) {
+            Layer currentLayer = layer;
+            currentLayer.entries.forEach((key, value) -> {
+                if (value != REMOVED && !isShadowed(key, currentLayer)) {
+                    action.accept(key, value);
+                }
+            });
+        }
+    }
+
+    private boolean isShadowed(Object key, Layer layer) {
+        if (topEntries.containsKey(key)) {
+            return true;
+        }
+        for (Layer upperLayer = frozenLayer; upperLayer != layer; upperLayer = upperLayer.below) {
+            if (upperLayer.entries.containsKey(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Iterator<Entry<K, V>> iterator() {
+                if (frozenLayer == null) {
+                    return Collections.unmodifiableMap((Map<K, V>) topEntries).entrySet().iterator();
+                }
+                if (topEntries.isEmpty() && frozenLayer.below == null) {
+                    return Collections.unmodifiableMap((Map<K, V>) frozenLayer.entries).entrySet().iterator();
+                }
+                List<Entry<K, V>> entries = new ArrayList<>(size);
+                forEachLayered((key, value) -> entries.add(new SimpleImmutableEntry<>((K) key, (V) value)));
+                return entries.iterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Entries never modified once the layer is frozen. A layer without layer below has no removed entry.
+     */
+    private static class Layer {
+
+        private final Map<Object, Object> entries;
+
+        private final Layer below;
+
+        private final int depth;
+
+        private Layer(Map<Object, Object> entries, Layer below) {
+            this.entries = entries;
+            this.below = below;
+            this.depth = below == null ? 1 : below.depth + 1;
+        }
+
+        private Object lookup(Object key) {
+            for (Layer layer = this; layer != null; layer = layer.below) {
+                Object value = layer.entries.get(key);
+                if (value != null) {
+                    return value;
+                }
+            }
+            return null;
+        }
+    }
+}
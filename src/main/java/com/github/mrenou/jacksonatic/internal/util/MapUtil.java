@@ -26,31 +26,6 @@ import static java.util.stream.Collectors.toMap;
 
 public class MapUtil {
 
-    public static <H extends Map<K, V>, K, V extends Mergeable<V> & Copyable<V>> H merge(H map1, H map2) {
-        return merge(map1, map2, newInstanceSupplier(map1));
-    }
-
-    public static <H extends Map<K, V>, K, V extends Mergeable<V> & Copyable<V>> H merge(H map1, H map2, Supplier<H> mapSupplier) {
-        return merge(map1, map2, (V o) -> o.copy(), V::mergeWith, mapSupplier);
-    }
-
-    public static <H extends Map<K, V>, K, V> H merge(H map1, H map2,
-                                                      Function<V, V> copyFunction,
-                                                      BiFunction<V, V, V> mergeFunction) {
-        return merge(map1, map2, copyFunction, mergeFunction, newInstanceSupplier(map1));
-    }
-
-    @SuppressWarnings("unchecked")
-    private static <H extends Map<K, V>, K, V> Supplier<H> newInstanceSupplier(H map) {
-        return () -> {
-            try {
-                return ((Class<H>) ((Function<H, Class<?>>) H::getClass).apply(map)).newInstance();
-            } catch (InstantiationException | IllegalAccessException e) {
-                throw new RuntimeException(e.getMessage(), e);
-            }
-        };
-    }
-
     public static <H extends Map<K, V>, K, V> H merge(H map1, H map2,
                                                       Function<V, V> copyFunction,
                                                       BiFunction<V, V, V> mergeFunction,
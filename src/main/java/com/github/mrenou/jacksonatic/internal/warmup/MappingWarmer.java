@@ -0,0 +1,104 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.warmup;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mrenou.jacksonatic.WarmUpReport;
+import com.github.mrenou.jacksonatic.internal.mapping.ClassesMapping;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Build the root serializer and deserializer of each mapped type and each named sub type, so they are cached by the
+ * object mapper before the first call.
+ * <p>
+ * Each type is a task of the executor. Jackson builds the serializers and deserializers of the properties while
+ * building the ones of their owner, so types shared by several mapped types are built once.
+ */
+public class MappingWarmer {
+
+    private final ClassesMapping classesMapping;
+
+    public MappingWarmer(ClassesMapping classesMapping) {
+        this.classesMapping = classesMapping;
+    }
+
+    public WarmUpReport warmUp(ObjectMapper objectMapper, Executor executor) {
+        Set<Class<?>> types = getTypes();
+        Map<Class<?>, Duration> durations = new ConcurrentHashMap<>();
+        Map<Class<?>, Throwable> failures = new ConcurrentHashMap<>();
+        long start = System.nanoTime();
+        CompletableFuture.allOf(types.stream()
+                .map(type -> CompletableFuture.runAsync(() -> warmUp(objectMapper, type, durations, failures), executor))
+                .toArray(CompletableFuture[]::new))
+                .join();
+        Duration totalDuration = Duration.ofNanos(System.nanoTime() - start);
+        return new WarmUpReport(inOrder(types, durations), inOrder(types, failures), totalDuration);
+    }
+
+    private void warmUp(ObjectMapper objectMapper, Class<?> type, Map<Class<?>, Duration> durations, Map<Class<?>, Throwable> failures) {
+        AtomicReference<Throwable> cause = new AtomicReference<>();
+        long start = System.nanoTime();
+        try {
+            objectMapper.canSerialize(type, cause);
+            if (cause.get() == null) {
+                objectMapper.canDeserialize(objectMapper.constructType(type), cause);
+            }
+        } catch (RuntimeException e) {
+            cause.set(e);
+        }
+        durations.put(type, Duration.ofNanos(System.nanoTime() - start));
+        if (cause.get() != null) {
+            failures.put(type, cause.get());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<Class<?>> getTypes() {
+        Deque<Class<?>> types = new ArrayDeque<>(classesMapping.keySet());
+        Set<Class<?>> visitedTypes = new LinkedHashSet<>();
+        while (!types.isEmpty()) {
+            Class<?> type = types.poll();
+            if (!type.getName().startsWith("java.") && visitedTypes.add(type)) {
+                classesMapping.getOpt((Class<Object>) type)
+                        .flatMap(classMapping -> Optional.ofNullable((JsonSubTypes) classMapping.getAnnotations().get(JsonSubTypes.class)))
+                        .ifPresent(jsonSubTypes -> Arrays.stream(jsonSubTypes.value()).forEach(subType -> types.add(subType.value())));
+            }
+        }
+        return visitedTypes;
+    }
+
+    private static <V> Map<Class<?>, V> inOrder(Set<Class<?>> types, Map<Class<?>, V> valuesByType) {
+        return types.stream()
+                .filter(valuesByType::containsKey)
+                .collect(toMap(type -> type, valuesByType::get, (v1, v2) -> v1, LinkedHashMap::new));
+    }
+}
@@ -17,6 +17,7 @@ package com.github.mrenou.jacksonatic.mapping;
 
 import com.github.mrenou.jacksonatic.exception.ClassBuilderNotFoundException;
 import com.github.mrenou.jacksonatic.exception.FieldNotFoundException;
+import com.github.mrenou.jacksonatic.exception.InvalidTypeIdException;
 import com.github.mrenou.jacksonatic.exception.MethodNotFoundException;
 import com.github.mrenou.jacksonatic.internal.mapping.ClassMappingByOperation;
 
@@ -109,6 +110,26 @@ public interface ClassMapping<T> extends HasAnnotations<ClassMapping<T>> {
      */
     ClassMapping<T> map(String fieldName, String jsonProperty) throws FieldNotFoundException;
 
+    /**
+     * Map the named String or byte[] field with the JSON text of its value. The value is read as UTF-8 encoded JSON
+     * text without building objects, and written as it is.
+     *
+     * @param fieldName the name of the field
+     * @return the current class mapping
+     * @throws FieldNotFoundException if the field doesn't exist in the current class
+     */
+    ClassMapping<T> mapRaw(String fieldName) throws FieldNotFoundException;
+
+    /**
+     * Map the named String or byte[] field with the JSON text of its value, with another name
+     *
+     * @param fieldName    the name of the field
+     * @param jsonProperty the new name
+     * @return the current class mapping
+     * @throws FieldNotFoundException if the field doesn't exist in the current class
+     */
+    ClassMapping<T> mapRaw(String fieldName, String jsonProperty) throws FieldNotFoundException;
+
     /**
      * Ignore the named field
      *
@@ -244,6 +265,32 @@ public interface ClassMapping<T> extends HasAnnotations<ClassMapping<T>> {
      */
     ClassMapping<T> onStaticFactory(ParameterCriteria... parameterCriteriaList) throws ClassBuilderNotFoundException;
 
+    /**
+     * Write first the properties set by the parameters of the mapped constructor or static factory, in the order of the
+     * parameters. Reading such a json, the class is built as soon as its last parameter is read, and the following
+     * properties are set directly instead of being kept until then.
+     *
+     * @return the current class mapping
+     */
+    ClassMapping<T> creatorPropertiesFirst();
+
+    /**
+     * Write the class as an array of its property values instead of an object. Unless the class defines its own order,
+     * the properties are ordered by the parameters of the mapped constructor or static factory, then by name.
+     *
+     * @return the current class mapping
+     */
+    ClassMapping<T> asArray();
+
+    /**
+     * Declare the class immutable: the JSON written for an instance is kept, in a cache bounded by
+     * {@link com.github.mrenou.jacksonatic.JacksonaticOptions.Builder#serializedFormCacheSize(int)}, and written again
+     * as it is the next times the same instance is serialized. Instances are held weakly by the cache.
+     *
+     * @return the current class mapping
+     */
+    ClassMapping<T> cacheSerializedForm();
+
     /**
      * Define the field use to store the type name
      *
@@ -269,4 +316,31 @@ public interface ClassMapping<T> extends HasAnnotations<ClassMapping<T>> {
      */
     ClassMapping<T> addNamedSubType(Class<? extends T> subType, String name);
 
+    /**
+     * Write the type of the sub types as a small integer instead of their name. Sub types get the next id in the order
+     * they are added, define their id to keep it when sub types are added or removed.
+     *
+     * @return the current class mapping
+     */
+    ClassMapping<T> compactTypeIds();
+
+    /**
+     * Define the compact type id of a sub type, adding the sub type if needed
+     *
+     * @param subType sub type
+     * @param id the id of the type, a small non negative integer, at most 999 999 999
+     * @return the current class mapping
+     * @throws InvalidTypeIdException if the id is negative, greater than 999 999 999 or already used by another sub type
+     */
+    ClassMapping<T> typeId(Class<? extends T> subType, int id) throws InvalidTypeIdException;
+
+    /**
+     * Expect the type field to be the first field of the objects read. The type field is always written first.
+     * Objects starting with another field are still read, by buffering the fields found before the type field, and
+     * reported with a warning.
+     *
+     * @return the current class mapping
+     */
+    ClassMapping<T> typeIdFirst();
+
 }
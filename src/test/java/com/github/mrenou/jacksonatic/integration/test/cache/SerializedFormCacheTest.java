@@ -0,0 +1,263 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.integration.test.cache;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.mrenou.jacksonatic.CompiledJacksonatic;
+import com.github.mrenou.jacksonatic.JacksonaticOptions;
+import com.github.mrenou.jacksonatic.SerializedFormCacheStats;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+import static com.github.mrenou.jacksonatic.Jacksonatic.configureMapping;
+import static com.github.mrenou.jacksonatic.JacksonaticOptions.options;
+import static com.github.mrenou.jacksonatic.mapping.ClassMapping.type;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SerializedFormCacheTest {
+
+    static class Internal {
+    }
+
+    static class Currency {
+
+        String code;
+
+        @JsonView(Internal.class)
+        int minorUnits;
+
+        Currency(String code, int minorUnits) {
+            this.code = code;
+            this.minorUnits = minorUnits;
+        }
+    }
+
+    static class Price {
+
+        double amount;
+
+        Currency currency;
+
+        Price(double amount, Currency currency) {
+            this.amount = amount;
+            this.currency = currency;
+        }
+    }
+
+    static class Conversion {
+
+        @JsonIgnoreProperties("minorUnits")
+        Currency from;
+
+        Currency to;
+
+        Conversion(Currency from, Currency to) {
+            this.from = from;
+            this.to = to;
+        }
+    }
+
+    static class Quote {
+
+        Date date;
+
+        Quote(Date date) {
+            this.date = date;
+        }
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Currency euro = new Currency("EUR", 2);
+
+    @Test
+    public void write_the_cached_form_of_an_instance_already_written() throws IOException {
+        CompiledJacksonatic compiledJacksonatic = compile(options().build());
+        compiledJacksonatic.registerIn(objectMapper);
+        List<Price> prices = Arrays.asList(new Price(1.5, euro), new Price(2, euro));
+
+        String json = objectMapper.writeValueAsString(prices);
+        euro.minorUnits = 3;
+
+        assertThat(json).isEqualTo("[{\"amount\":1.5,\"currency\":{\"code\":\"EUR\",\"minorUnits\":2}},{\"amount\":2.0,\"currency\":{\"code\":\"EUR\",\"minorUnits\":2}}]");
+        assertThat(objectMapper.writeValueAsString(euro)).isEqualTo("{\"code\":\"EUR\",\"minorUnits\":2}");
+        assertThat(new String(objectMapper.writeValueAsBytes(euro), "UTF-8")).isEqualTo("{\"code\":\"EUR\",\"minorUnits\":2}");
+        SerializedFormCacheStats stats = compiledJacksonatic.getSerializedFormCacheStats(Currency.class);
+        assertThat(stats.getHits()).isEqualTo(3);
+        assertThat(stats.getMisses()).isEqualTo(1);
+        assertThat(stats.getSize()).isEqualTo(1);
+        assertThat(stats.getHitRate()).isEqualTo(0.75);
+        assertThat(compiledJacksonatic.getSerializedFormCacheStats(Price.class).getMisses()).isEqualTo(0);
+    }
+
+    @Test
+    public void cache_the_forms_of_equal_instances_separately() throws IOException {
+        CompiledJacksonatic compiledJacksonatic = compile(options().build());
+        compiledJacksonatic.registerIn(objectMapper);
+
+        objectMapper.writeValueAsString(euro);
+        objectMapper.writeValueAsString(new Currency("EUR", 2));
+
+        assertThat(compiledJacksonatic.getSerializedFormCacheStats(Currency.class).getMisses()).isEqualTo(2);
+        assertThat(compiledJacksonatic.getSerializedFormCacheStats(Currency.class).getSize()).isEqualTo(2);
+    }
+
+    @Test
+    public void bound_the_number_of_cached_forms() throws IOException {
+        CompiledJacksonatic compiledJacksonatic = compile(options().serializedFormCacheSize(2).build());
+        compiledJacksonatic.registerIn(objectMapper);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(objectMapper.writeValueAsString(new Currency("C" + i, i))).isEqualTo("{\"code\":\"C" + i + "\",\"minorUnits\":" + i + "}");
+        }
+
+        assertThat(compiledJacksonatic.getSerializedFormCacheStats(Currency.class).getSize()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    public void write_instance_without_cache_with_pretty_printer() throws IOException {
+        CompiledJacksonatic compiledJacksonatic = compile(options().build());
+        compiledJacksonatic.registerIn(objectMapper);
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+
+        String json = objectMapper.writeValueAsString(new Price(1, euro));
+
+        assertThat(json).isEqualTo(objectMapper.writeValueAsString(new Price(1, new Currency("EUR", 2))));
+        assertThat(json).contains("\"currency\" : {\n    \"code\" : \"EUR\",");
+        assertThat(compiledJacksonatic.getSerializedFormCacheStats(Currency.class).getMisses()).isEqualTo(0);
+    }
+
+    @Test
+    public void write_the_cached_form_of_an_instance_of_an_annotated_property() throws IOException {
+        CompiledJacksonatic compiledJacksonatic = compile(options().build());
+        compiledJacksonatic.registerIn(objectMapper);
+        Conversion conversion = new Conversion(euro, euro);
+
+        String json = objectMapper.writeValueAsString(conversion);
+
+        assertThat(json).isEqualTo("{\"from\":{\"code\":\"EUR\"},\"to\":{\"code\":\"EUR\",\"minorUnits\":2}}");
+        assertThat(objectMapper.writeValueAsString(conversion)).isEqualTo(json);
+        SerializedFormCacheStats stats = compiledJacksonatic.getSerializedFormCacheStats(Currency.class);
+        assertThat(stats.getHits()).isEqualTo(2);
+        assertThat(stats.getMisses()).isEqualTo(2);
+        assertThat(stats.getSize()).isEqualTo(2);
+    }
+
+    @Test
+    public void write_instance_without_cache_with_serialization_view() throws IOException {
+        CompiledJacksonatic compiledJacksonatic = compile(options().build());
+        compiledJacksonatic.registerIn(objectMapper);
+
+        String json = objectMapper.writeValueAsString(euro);
+        String viewJson = objectMapper.writerWithView(Object.class).writeValueAsString(euro);
+
+        assertThat(json).isEqualTo("{\"code\":\"EUR\",\"minorUnits\":2}");
+        assertThat(viewJson).isEqualTo("{\"code\":\"EUR\"}");
+        assertThat(objectMapper.writeValueAsString(euro)).isEqualTo(json);
+        SerializedFormCacheStats stats = compiledJacksonatic.getSerializedFormCacheStats(Currency.class);
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    public void write_the_form_of_the_features_of_the_writer() throws IOException {
+        CompiledJacksonatic compiledJacksonatic = compile(options().build());
+        compiledJacksonatic.registerIn(objectMapper);
+
+        String json = objectMapper.writeValueAsString(euro);
+        String numbersAsStringsJson = objectMapper.writer().with(JsonGenerator.Feature.WRITE_NUMBERS_AS_STRINGS).writeValueAsString(euro);
+
+        assertThat(json).isEqualTo("{\"code\":\"EUR\",\"minorUnits\":2}");
+        assertThat(numbersAsStringsJson).isEqualTo("{\"code\":\"EUR\",\"minorUnits\":\"2\"}");
+        assertThat(compiledJacksonatic.getSerializedFormCacheStats(Currency.class).getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    public void write_the_form_of_the_config_of_the_writer() throws IOException {
+        CompiledJacksonatic compiledJacksonatic = compile(options().build());
+        compiledJacksonatic.registerIn(objectMapper);
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        Quote quote = new Quote(new Date(0));
+
+        String json = objectMapper.writeValueAsString(quote);
+        objectMapper.writeValueAsString(quote);
+        String otherTimeZoneJson = objectMapper.writer().with(TimeZone.getTimeZone("GMT+2")).writeValueAsString(quote);
+
+        assertThat(json).isEqualTo("{\"date\":\"1970-01-01T00:00:00.000+0000\"}");
+        assertThat(otherTimeZoneJson).isEqualTo("{\"date\":\"1970-01-01T02:00:00.000+0200\"}");
+        SerializedFormCacheStats stats = compiledJacksonatic.getSerializedFormCacheStats(Quote.class);
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    public void keep_the_caches_of_each_object_mapper() throws IOException {
+        CompiledJacksonatic compiledJacksonatic = compile(options().compileToMixIns().build());
+        ObjectMapper otherObjectMapper = new ObjectMapper();
+        compiledJacksonatic.registerIn(objectMapper);
+        compiledJacksonatic.registerIn(otherObjectMapper);
+
+        objectMapper.writeValueAsString(euro);
+        objectMapper.writeValueAsString(euro);
+        otherObjectMapper.writeValueAsString(euro);
+
+        SerializedFormCacheStats stats = compiledJacksonatic.getSerializedFormCacheStats(Currency.class);
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(2);
+        assertThat(stats.getSize()).isEqualTo(2);
+    }
+
+    @Test
+    public void release_the_object_mappers_of_the_snapshot() throws IOException, InterruptedException {
+        CompiledJacksonatic compiledJacksonatic = compile(options().build());
+        ObjectMapper otherObjectMapper = new ObjectMapper();
+        compiledJacksonatic.registerIn(otherObjectMapper);
+        otherObjectMapper.writeValueAsString(euro);
+        otherObjectMapper.writeValueAsString(euro);
+        WeakReference<ObjectMapper> otherObjectMapperReference = new WeakReference<>(otherObjectMapper);
+        otherObjectMapper = null;
+
+        for (int i = 0; i < 10 && otherObjectMapperReference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertThat(otherObjectMapperReference.get()).isNull();
+        SerializedFormCacheStats stats = compiledJacksonatic.getSerializedFormCacheStats(Currency.class);
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(1);
+        assertThat(stats.getSize()).isEqualTo(0);
+    }
+
+    private CompiledJacksonatic compile(JacksonaticOptions options) {
+        return configureMapping(options)
+                .on(type(Currency.class).mapAll().cacheSerializedForm())
+                .on(type(Price.class).mapAll())
+                .on(type(Conversion.class).mapAll())
+                .on(type(Quote.class).mapAll().cacheSerializedForm())
+                .compile();
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.integration.test.configurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mrenou.jacksonatic.CompiledJacksonatic;
+import com.github.mrenou.jacksonatic.Jacksonatic;
+import com.github.mrenou.jacksonatic.JacksonaticOptions;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static com.github.mrenou.jacksonatic.mapping.ClassMapping.type;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompiledJacksonaticTest {
+
+    public static class Pojo {
+
+        String field1;
+
+        Integer field2;
+
+        public Pojo() {
+        }
+
+        Pojo(String field1, Integer field2) {
+            this.field1 = field1;
+            this.field2 = field2;
+        }
+    }
+
+    @Test
+    public void share_compiled_mapping_between_object_mappers() throws IOException {
+        CompiledJacksonatic compiledJacksonatic = Jacksonatic.configureMapping()
+                .on(type(Pojo.class)
+                        .map("field1", "toto")
+                        .map("field2"))
+                .compile();
+        ObjectMapper objectMapper1 = new ObjectMapper();
+        ObjectMapper objectMapper2 = new ObjectMapper();
+
+        compiledJacksonatic.registerIn(objectMapper1);
+        compiledJacksonatic.registerIn(objectMapper2);
+
+        String expectedJson = "{\"toto\":\"field1\",\"field2\":42}";
+        assertThat(objectMapper1.readTree(objectMapper1.writeValueAsString(new Pojo("field1", 42)))).isEqualTo(objectMapper1.readTree(expectedJson));
+        assertThat(objectMapper2.readTree(objectMapper2.writeValueAsString(new Pojo("field1", 42)))).isEqualTo(objectMapper2.readTree(expectedJson));
+        assertThat(objectMapper2.readValue(expectedJson, Pojo.class).field1).isEqualTo("field1");
+    }
+
+    @Test
+    public void ignore_class_mappings_added_after_compilation() throws IOException {
+        Jacksonatic jacksonatic = Jacksonatic.configureMapping()
+                .on(type(Pojo.class)
+                        .map("field1", "toto"));
+        CompiledJacksonatic compiledJacksonatic = jacksonatic.compile();
+        jacksonatic.on(type(Pojo.class).map("field2", "tutu"));
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        compiledJacksonatic.registerIn(objectMapper);
+
+        assertThat(objectMapper.writeValueAsString(new Pojo("field1", 42))).isEqualTo("{\"toto\":\"field1\"}");
+    }
+
+    @Test
+    public void compile_mix_ins_once_for_all_object_mappers() {
+        CompiledJacksonatic compiledJacksonatic = Jacksonatic.configureMapping(JacksonaticOptions.options().compileToMixIns())
+                .on(type(Pojo.class).map("field1", "toto"))
+                .compile();
+        ObjectMapper objectMapper1 = new ObjectMapper();
+        ObjectMapper objectMapper2 = new ObjectMapper();
+
+        compiledJacksonatic.registerIn(objectMapper1);
+        compiledJacksonatic.registerIn(objectMapper2);
+
+        assertThat(objectMapper1.findMixInClassFor(Pojo.class)).isNotNull();
+        assertThat(objectMapper2.findMixInClassFor(Pojo.class)).isSameAs(objectMapper1.findMixInClassFor(Pojo.class));
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.integration.test.configurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mrenou.jacksonatic.CompiledJacksonatic;
+import com.github.mrenou.jacksonatic.Jacksonatic;
+import com.github.mrenou.jacksonatic.WarmUpReport;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.github.mrenou.jacksonatic.Jacksonatic.configureMapping;
+import static com.github.mrenou.jacksonatic.mapping.ClassMapping.type;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WarmUpTest {
+
+    static class Pojo {
+
+        String field1;
+    }
+
+    static abstract class PojoParent {
+
+        String parentField;
+    }
+
+    static class PojoChild1 extends PojoParent {
+
+        String childField;
+    }
+
+    static class PojoChild2 extends PojoParent {
+    }
+
+    static class PojoWithConflict {
+
+        String field1;
+
+        String field2;
+    }
+
+    @Test
+    public void warm_up_mapped_types_and_named_sub_types() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Jacksonatic jacksonatic = configureMapping()
+                .on(type(Pojo.class).mapAll())
+                .on(type(PojoParent.class)
+                        .mapAll()
+                        .fieldForTypeName("type")
+                        .addNamedSubType(PojoChild1.class, "CHILD1")
+                        .addNamedSubType(PojoChild2.class, "CHILD2"))
+                .on(type(PojoChild1.class).mapAll());
+        jacksonatic.registerIn(objectMapper);
+
+        WarmUpReport report = warmUp(jacksonatic, objectMapper);
+
+        assertThat(report.isSuccessful()).isTrue();
+        assertThat(report.getDurations().keySet()).containsOnly(Pojo.class, PojoParent.class, PojoChild1.class, PojoChild2.class);
+        assertThat(report.getTotalDuration().isNegative()).isFalse();
+    }
+
+    @Test
+    public void report_types_which_cannot_be_warmed_up() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        CompiledJacksonatic compiledJacksonatic = configureMapping()
+                .on(type(Pojo.class).mapAll())
+                .on(type(PojoWithConflict.class)
+                        .map("field1", "field")
+                        .map("field2", "field"))
+                .compile();
+        compiledJacksonatic.registerIn(objectMapper);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        WarmUpReport report;
+        try {
+            report = compiledJacksonatic.warmUp(objectMapper, executorService);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(report.isSuccessful()).isFalse();
+        assertThat(report.getFailures().keySet()).containsOnly(PojoWithConflict.class);
+        assertThat(report.getDurations().keySet()).containsOnly(Pojo.class, PojoWithConflict.class);
+    }
+
+    private WarmUpReport warmUp(Jacksonatic jacksonatic, ObjectMapper objectMapper) {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            return jacksonatic.warmUp(objectMapper, executorService);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
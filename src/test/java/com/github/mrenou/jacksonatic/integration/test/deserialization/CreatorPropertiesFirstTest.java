@@ -0,0 +1,133 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.integration.test.deserialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.github.mrenou.jacksonatic.JacksonaticOptions;
+import com.github.mrenou.jacksonatic.mapping.ClassMapping;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static com.github.mrenou.jacksonatic.Jacksonatic.configureMapping;
+import static com.github.mrenou.jacksonatic.JacksonaticOptions.options;
+import static com.github.mrenou.jacksonatic.mapping.ClassMapping.type;
+import static com.github.mrenou.jacksonatic.mapping.ParameterCriteria.matchField;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CreatorPropertiesFirstTest {
+
+    private static boolean constructed;
+
+    private static boolean constructedBeforeField2;
+
+    static class Pojo {
+
+        @JsonDeserialize(using = Field2Deserializer.class)
+        private String field2;
+
+        private final String field1;
+
+        private final String field3;
+
+        public Pojo(String field3, String field1) {
+            constructed = true;
+            this.field1 = field1;
+            this.field3 = field3;
+        }
+    }
+
+    static class Field2Deserializer extends JsonDeserializer<String> {
+
+        @Override
+        public String deserialize(JsonParser jsonParser, DeserializationContext context) throws IOException {
+            constructedBeforeField2 = constructed;
+            return jsonParser.getValueAsString();
+        }
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Before
+    public void before() {
+        constructed = false;
+        constructedBeforeField2 = false;
+    }
+
+    @Test
+    public void write_creator_properties_first_and_build_before_reading_other_properties() throws IOException {
+        register(options().build(), pojoMapping().creatorPropertiesFirst());
+        Pojo pojo = new Pojo("3", "1");
+        pojo.field2 = "2";
+
+        String json = objectMapper.writeValueAsString(pojo);
+
+        assertThat(json).isEqualTo("{\"field3\":\"3\",\"field1\":\"1\",\"field2\":\"2\"}");
+        constructed = false;
+        assertThat(objectMapper.readValue(json, Pojo.class)).isEqualToComparingFieldByField(pojo);
+        assertThat(constructedBeforeField2).isTrue();
+    }
+
+    @Test
+    public void write_creator_properties_first_when_creator_is_mapped_for_deserialization_only() throws IOException {
+        register(options().build(), type(Pojo.class)
+                .mapAll()
+                .onDeserialization()
+                .withConstructor(matchField("field3").mappedBy("field3"), matchField("field1").mappedBy("field1"))
+                .creatorPropertiesFirst());
+        Pojo pojo = new Pojo("3", "1");
+        pojo.field2 = "2";
+
+        String json = objectMapper.writeValueAsString(pojo);
+
+        assertThat(json).isEqualTo("{\"field3\":\"3\",\"field1\":\"1\",\"field2\":\"2\"}");
+        assertThat(objectMapper.readValue(json, Pojo.class)).isEqualToComparingFieldByField(pojo);
+    }
+
+    @Test
+    public void write_creator_properties_first_with_compiled_mix_ins() throws IOException {
+        register(options().compileToMixIns().build(), pojoMapping().creatorPropertiesFirst());
+        Pojo pojo = new Pojo("3", "1");
+        pojo.field2 = "2";
+
+        assertThat(objectMapper.writeValueAsString(pojo)).isEqualTo("{\"field3\":\"3\",\"field1\":\"1\",\"field2\":\"2\"}");
+    }
+
+    @Test
+    public void keep_other_properties_until_built_when_creator_properties_are_not_first() throws IOException {
+        register(options().build(), pojoMapping());
+
+        Pojo pojo = objectMapper.readValue("{\"field2\":\"2\",\"field3\":\"3\",\"field1\":\"1\"}", Pojo.class);
+
+        assertThat(pojo.field2).isEqualTo("2");
+        assertThat(constructedBeforeField2).isFalse();
+    }
+
+    private ClassMapping<Pojo> pojoMapping() {
+        return type(Pojo.class)
+                .mapAll()
+                .withConstructor(matchField("field3").mappedBy("field3"), matchField("field1").mappedBy("field1"));
+    }
+
+    private void register(JacksonaticOptions options, ClassMapping<Pojo> pojoMapping) {
+        configureMapping(options).on(pojoMapping).registerIn(objectMapper);
+    }
+}
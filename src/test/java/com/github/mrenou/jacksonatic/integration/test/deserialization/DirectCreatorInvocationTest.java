@@ -0,0 +1,133 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.integration.test.deserialization;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
+import com.fasterxml.jackson.databind.deser.std.StdValueInstantiator;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static com.github.mrenou.jacksonatic.Jacksonatic.configureMapping;
+import static com.github.mrenou.jacksonatic.JacksonaticOptions.options;
+import static com.github.mrenou.jacksonatic.mapping.ClassMapping.type;
+import static com.github.mrenou.jacksonatic.mapping.ParameterCriteria.matchType;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class DirectCreatorInvocationTest {
+
+    static class Pojo {
+
+        private final String field1;
+
+        private final int field2;
+
+        public Pojo(String field1, int field2) {
+            if ("invalid".equals(field1)) {
+                throw new IllegalArgumentException("invalid field1");
+            }
+            if ("error".equals(field1)) {
+                throw new AssertionError("error field1");
+            }
+            this.field1 = field1;
+            this.field2 = field2;
+        }
+
+        public static Pojo newPojo(String field1, int field2) {
+            return new Pojo(field1 + " from factory", field2);
+        }
+    }
+
+    static class NotMappedPojo {
+
+        public String field1;
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void deserialize_on_constructor_with_direct_invocation() throws IOException {
+        configureMapping(options().directCreatorInvocation().build())
+                .on(type(Pojo.class)
+                        .mapAll()
+                        .withConstructor(matchType(String.class).mappedBy("field1"), matchType(int.class).mappedBy("field2")))
+                .registerIn(objectMapper);
+
+        Pojo pojo = objectMapper.readValue("{\"field1\":\"value1\",\"field2\":42}", Pojo.class);
+
+        assertThat(pojo.field1).isEqualTo("value1");
+        assertThat(pojo.field2).isEqualTo(42);
+        assertThat(valueInstantiatorOf(Pojo.class)).isNotExactlyInstanceOf(StdValueInstantiator.class);
+        assertThat(valueInstantiatorOf(NotMappedPojo.class)).isExactlyInstanceOf(StdValueInstantiator.class);
+    }
+
+    @Test
+    public void deserialize_on_static_factory_with_direct_invocation() throws IOException {
+        configureMapping(options().directCreatorInvocation().build())
+                .on(type(Pojo.class)
+                        .mapAll()
+                        .onStaticFactory("newPojo", matchType(String.class).mappedBy("field1"), matchType(int.class).mappedBy("field2")))
+                .registerIn(objectMapper);
+
+        Pojo pojo = objectMapper.readValue("{\"field1\":\"value1\",\"field2\":42}", Pojo.class);
+
+        assertThat(pojo.field1).isEqualTo("value1 from factory");
+        assertThat(pojo.field2).isEqualTo(42);
+    }
+
+    @Test
+    public void wrap_exception_thrown_by_creator() throws IOException {
+        configureMapping(options().directCreatorInvocation().build())
+                .on(type(Pojo.class)
+                        .mapAll()
+                        .withConstructor(matchType(String.class).mappedBy("field1"), matchType(int.class).mappedBy("field2")))
+                .registerIn(objectMapper);
+
+        try {
+            objectMapper.readValue("{\"field1\":\"invalid\",\"field2\":42}", Pojo.class);
+            fail("JsonMappingException expected");
+        } catch (JsonMappingException e) {
+            assertThat(e.getMessage()).contains("invalid field1");
+        }
+    }
+
+    @Test
+    public void wrap_error_thrown_by_creator() throws IOException {
+        configureMapping(options().directCreatorInvocation().build())
+                .on(type(Pojo.class)
+                        .mapAll()
+                        .withConstructor(matchType(String.class).mappedBy("field1"), matchType(int.class).mappedBy("field2")))
+                .registerIn(objectMapper);
+
+        try {
+            objectMapper.readValue("{\"field1\":\"error\",\"field2\":42}", Pojo.class);
+            fail("JsonMappingException expected");
+        } catch (JsonMappingException e) {
+            assertThat(e.getCause()).isInstanceOf(AssertionError.class).hasMessage("error field1");
+        }
+    }
+
+    private ValueInstantiator valueInstantiatorOf(Class<?> type) throws JsonMappingException {
+        DefaultDeserializationContext context = ((DefaultDeserializationContext) objectMapper.getDeserializationContext())
+                .createInstance(objectMapper.getDeserializationConfig(), null, null);
+        return ((BeanDeserializerBase) context.findRootValueDeserializer(objectMapper.constructType(type))).getValueInstantiator();
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.integration.test.field;
+
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
+import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonObjectFormatVisitor;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.github.mrenou.jacksonatic.Jacksonatic.configureMapping;
+import static com.github.mrenou.jacksonatic.JacksonaticOptions.options;
+import static com.github.mrenou.jacksonatic.mapping.ClassMapping.type;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DirectFieldAccessTest {
+
+    static class Pojo {
+
+        private String field1;
+
+        private int field2;
+
+        private final long field3;
+
+        private String ignoredField;
+
+        public String publicField;
+
+        Pojo() {
+            this(null, 0, 0L);
+        }
+
+        Pojo(String field1, int field2, long field3) {
+            this.field1 = field1;
+            this.field2 = field2;
+            this.field3 = field3;
+        }
+    }
+
+    static class NotMappedPojo {
+
+        public String publicField;
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void serialize_and_deserialize_mapped_fields_with_direct_access() throws IOException {
+        registerMapping();
+        Pojo pojo = new Pojo("value1", 42, 7L);
+        pojo.ignoredField = "ignored";
+        pojo.publicField = "public";
+
+        String json = objectMapper.writeValueAsString(pojo);
+        Pojo deserializedPojo = objectMapper.readValue("{\"name\":\"value1\",\"field2\":42,\"field3\":7,\"publicField\":\"public\"}", Pojo.class);
+
+        assertThat(objectMapper.readTree(json)).isEqualTo(objectMapper.readTree("{\"name\":\"value1\",\"field2\":42,\"field3\":7,\"publicField\":\"public\"}"));
+        assertThat(deserializedPojo.field1).isEqualTo("value1");
+        assertThat(deserializedPojo.field2).isEqualTo(42);
+        assertThat(deserializedPojo.field3).isEqualTo(7L);
+        assertThat(deserializedPojo.ignoredField).isNull();
+        assertThat(deserializedPojo.publicField).isEqualTo("public");
+    }
+
+    @Test
+    public void replace_only_writers_of_mapped_fields() throws JsonMappingException {
+        registerMapping();
+
+        Map<String, BeanProperty> pojoWriters = writersOf(Pojo.class);
+        Map<String, BeanProperty> notMappedPojoWriters = writersOf(NotMappedPojo.class);
+
+        assertThat(pojoWriters.keySet()).containsOnly("name", "field2", "field3", "publicField");
+        assertThat(pojoWriters.get("name")).isNotExactlyInstanceOf(BeanPropertyWriter.class);
+        assertThat(pojoWriters.get("field2")).isNotExactlyInstanceOf(BeanPropertyWriter.class);
+        assertThat(pojoWriters.get("publicField")).isNotExactlyInstanceOf(BeanPropertyWriter.class);
+        assertThat(notMappedPojoWriters.get("publicField")).isExactlyInstanceOf(BeanPropertyWriter.class);
+    }
+
+    @Test
+    public void keep_reflective_access_without_option() throws JsonMappingException {
+        configureMapping().on(type(Pojo.class).mapAll()).registerIn(objectMapper);
+
+        assertThat(writersOf(Pojo.class).get("field1")).isExactlyInstanceOf(BeanPropertyWriter.class);
+    }
+
+    private void registerMapping() {
+        configureMapping(options().directFieldAccess().build())
+                .on(type(Pojo.class)
+                        .mapAll()
+                        .map("field1", "name")
+                        .ignore("ignoredField"))
+                .registerIn(objectMapper);
+    }
+
+    private Map<String, BeanProperty> writersOf(Class<?> type) throws JsonMappingException {
+        Map<String, BeanProperty> writers = new HashMap<>();
+        objectMapper.acceptJsonFormatVisitor(type, new JsonFormatVisitorWrapper.Base() {
+            @Override
+            public JsonObjectFormatVisitor expectObjectFormat(JavaType type) {
+                return new JsonObjectFormatVisitor.Base() {
+                    @Override
+                    public void optionalProperty(BeanProperty writer) {
+                        writers.put(writer.getName(), writer);
+                    }
+                };
+            }
+        });
+        return writers;
+    }
+}
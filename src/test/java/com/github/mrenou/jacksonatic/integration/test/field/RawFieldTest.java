@@ -0,0 +1,110 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.integration.test.field;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static com.github.mrenou.jacksonatic.Jacksonatic.configureMapping;
+import static com.github.mrenou.jacksonatic.JacksonaticOptions.options;
+import static com.github.mrenou.jacksonatic.mapping.ClassMapping.type;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class RawFieldTest {
+
+    static class Envelope {
+
+        String id;
+
+        String payload;
+
+        byte[] attachment;
+    }
+
+    static class WrongEnvelope {
+
+        int payload;
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void read_and_write_raw_json_of_string_and_bytes_fields() throws IOException {
+        configureMapping()
+                .on(type(Envelope.class)
+                        .map("id")
+                        .mapRaw("payload")
+                        .mapRaw("attachment", "data"))
+                .registerIn(objectMapper);
+        String json = "{\"id\":\"1\",\"payload\":{\"values\":[1,2.5,true,null],\"name\":\"a\\\"b\"},\"data\":[{\"x\":1}]}";
+
+        Envelope envelope = objectMapper.readValue(json, Envelope.class);
+
+        assertThat(envelope.id).isEqualTo("1");
+        assertThat(envelope.payload).isEqualTo("{\"values\":[1,2.5,true,null],\"name\":\"a\\\"b\"}");
+        assertThat(new String(envelope.attachment, StandardCharsets.UTF_8)).isEqualTo("[{\"x\":1}]");
+        assertThat(objectMapper.writeValueAsString(envelope)).isEqualTo(json);
+        assertThat(new String(objectMapper.writeValueAsBytes(envelope), StandardCharsets.UTF_8)).isEqualTo(json);
+    }
+
+    @Test
+    public void read_and_write_raw_json_of_scalar_and_null_values() throws IOException {
+        configureMapping()
+                .on(type(Envelope.class)
+                        .mapRaw("payload")
+                        .mapRaw("attachment"))
+                .registerIn(objectMapper);
+
+        Envelope envelope = objectMapper.readValue("{\"payload\":\"text\",\"attachment\":null}", Envelope.class);
+
+        assertThat(envelope.payload).isEqualTo("\"text\"");
+        assertThat(envelope.attachment).isNull();
+        assertThat(objectMapper.writeValueAsString(envelope)).isEqualTo("{\"payload\":\"text\",\"attachment\":null}");
+    }
+
+    @Test
+    public void read_and_write_raw_json_with_compiled_mix_ins() throws IOException {
+        configureMapping(options().compileToMixIns().build())
+                .on(type(Envelope.class)
+                        .mapRaw("payload"))
+                .registerIn(objectMapper);
+
+        Envelope envelope = objectMapper.readValue("{\"payload\":{\"a\":[1]}}", Envelope.class);
+
+        assertThat(envelope.payload).isEqualTo("{\"a\":[1]}");
+        assertThat(objectMapper.writeValueAsString(envelope)).isEqualTo("{\"payload\":{\"a\":[1]}}");
+    }
+
+    @Test
+    public void fail_to_read_raw_json_in_a_field_neither_string_nor_bytes() throws IOException {
+        configureMapping()
+                .on(type(WrongEnvelope.class)
+                        .mapRaw("payload"))
+                .registerIn(objectMapper);
+
+        try {
+            objectMapper.readValue("{\"payload\":1}", WrongEnvelope.class);
+            fail("JsonMappingException expected");
+        } catch (JsonMappingException e) {
+            assertThat(e.getMessage()).contains("payload", "int");
+        }
+    }
+}
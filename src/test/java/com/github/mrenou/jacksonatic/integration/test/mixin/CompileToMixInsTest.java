@@ -0,0 +1,241 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.integration.test.mixin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BasicClassIntrospector;
+import com.github.mrenou.jacksonatic.Jacksonatic;
+import com.github.mrenou.jacksonatic.exception.MixInCompilationException;
+import org.junit.Test;
+
+import static com.github.mrenou.jacksonatic.Jacksonatic.configureMapping;
+import static com.github.mrenou.jacksonatic.JacksonaticOptions.options;
+import static com.github.mrenou.jacksonatic.mapping.ClassMapping.type;
+import static com.github.mrenou.jacksonatic.mapping.ParameterCriteria.matchType;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class CompileToMixInsTest {
+
+    static class Pojo {
+
+        private String field1;
+
+        private String field2;
+
+        private String field3;
+
+        Pojo() {
+        }
+
+        Pojo(String field1, String field2, String field3) {
+            this.field1 = field1;
+            this.field2 = field2;
+            this.field3 = field3;
+        }
+    }
+
+    static class PojoParent {
+
+        String parentField;
+
+        String ignoredByParent;
+    }
+
+    static class PojoChild extends PojoParent {
+
+        private String childField;
+    }
+
+    static class PojoWithBuilder {
+
+        private final String field1;
+
+        private final Integer field2;
+
+        public PojoWithBuilder(String field1, Integer field2) {
+            this.field1 = field1;
+            this.field2 = field2;
+        }
+
+        public static PojoWithBuilder of(String field1, Integer field2) {
+            return new PojoWithBuilder(field1 + "!", field2);
+        }
+    }
+
+    static class PojoWithAccessors {
+
+        private String field1;
+
+        public String getField1() {
+            return field1;
+        }
+
+        public void setField1(String field1) {
+            this.field1 = field1 + "!";
+        }
+    }
+
+    static class Animal {
+
+        String name;
+    }
+
+    static class Dog extends Animal {
+
+        private int bones;
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void map_and_ignore_fields_with_mix_ins() throws Exception {
+        compiledMapping()
+                .on(type(Pojo.class)
+                        .mapAll()
+                        .map("field1", "mapped1")
+                        .ignore("field3"))
+                .registerIn(objectMapper);
+
+        assertThat(objectMapper.writeValueAsString(new Pojo("v1", "v2", "v3"))).isEqualTo("{\"field2\":\"v2\",\"mapped1\":\"v1\"}");
+        Pojo pojo = objectMapper.readValue("{\"mapped1\":\"v1\",\"field2\":\"v2\"}", Pojo.class);
+        assertThat(pojo.field1).isEqualTo("v1");
+        assertThat(pojo.field2).isEqualTo("v2");
+    }
+
+    @Test
+    public void keep_stock_class_introspector() {
+        compiledMapping().on(type(Pojo.class).mapAll()).registerIn(objectMapper);
+
+        assertThat(objectMapper.getSerializationConfig().getClassIntrospector()).isExactlyInstanceOf(BasicClassIntrospector.class);
+        assertThat(objectMapper.getDeserializationConfig().getClassIntrospector()).isExactlyInstanceOf(BasicClassIntrospector.class);
+        assertThat(objectMapper.findMixInClassFor(Pojo.class)).isNotNull();
+    }
+
+    @Test
+    public void map_inherited_fields_like_class_introspector() throws Exception {
+        JacksonaticMappingSupplier mapping = jacksonatic -> jacksonatic
+                .on(type(PojoParent.class).map("parentField"))
+                .on(type(PojoChild.class).mapAll());
+        PojoChild pojoChild = new PojoChild();
+        pojoChild.parentField = "parent";
+        pojoChild.ignoredByParent = "ignoredByParent";
+        pojoChild.childField = "child";
+        PojoParent pojoParent = new PojoParent();
+        pojoParent.parentField = "parent";
+        pojoParent.ignoredByParent = "ignoredByParent";
+
+        ObjectMapper introspectorObjectMapper = new ObjectMapper();
+        mapping.apply(configureMapping()).registerIn(introspectorObjectMapper);
+        mapping.apply(compiledMapping()).registerIn(objectMapper);
+
+        assertThat(objectMapper.writeValueAsString(pojoChild))
+                .isEqualTo(introspectorObjectMapper.writeValueAsString(pojoChild))
+                .isEqualTo("{\"parentField\":\"parent\",\"ignoredByParent\":\"ignoredByParent\",\"childField\":\"child\"}");
+        assertThat(objectMapper.writeValueAsString(pojoParent))
+                .isEqualTo(introspectorObjectMapper.writeValueAsString(pojoParent))
+                .isEqualTo("{\"parentField\":\"parent\"}");
+    }
+
+    @Test
+    public void map_constructor_with_mix_ins() throws Exception {
+        compiledMapping()
+                .on(type(PojoWithBuilder.class)
+                        .mapAll()
+                        .withConstructor(matchType(String.class).mappedBy("field1"), matchType(Integer.class).mappedBy("field2")))
+                .registerIn(objectMapper);
+
+        PojoWithBuilder pojo = objectMapper.readValue("{\"field1\":\"v1\",\"field2\":2}", PojoWithBuilder.class);
+
+        assertThat(pojo.field1).isEqualTo("v1");
+        assertThat(pojo.field2).isEqualTo(2);
+    }
+
+    @Test
+    public void map_static_factory_with_mix_ins() throws Exception {
+        compiledMapping()
+                .on(type(PojoWithBuilder.class)
+                        .mapAll()
+                        .onStaticFactory("of", matchType(String.class).mappedBy("field1"), matchType(Integer.class).mappedBy("field2")))
+                .registerIn(objectMapper);
+
+        PojoWithBuilder pojo = objectMapper.readValue("{\"field1\":\"v1\",\"field2\":2}", PojoWithBuilder.class);
+
+        assertThat(pojo.field1).isEqualTo("v1!");
+        assertThat(pojo.field2).isEqualTo(2);
+    }
+
+    @Test
+    public void map_getter_and_setter_with_mix_ins() throws Exception {
+        compiledMapping()
+                .on(type(PojoWithAccessors.class)
+                        .mapGetter("field1", "getter")
+                        .mapSetter("field1", "setter"))
+                .registerIn(objectMapper);
+        PojoWithAccessors pojo = new PojoWithAccessors();
+        pojo.field1 = "v1";
+
+        assertThat(objectMapper.writeValueAsString(pojo)).isEqualTo("{\"getter\":\"v1\"}");
+        assertThat(objectMapper.readValue("{\"setter\":\"v1\"}", PojoWithAccessors.class).field1).isEqualTo("v1!");
+    }
+
+    @Test
+    public void map_polymorphism_with_mix_ins() throws Exception {
+        compiledMapping()
+                .on(type(Animal.class)
+                        .mapAll()
+                        .fieldForTypeName("type")
+                        .addNamedSubType(Dog.class, "DOG"))
+                .registerIn(objectMapper);
+        Dog dog = new Dog();
+        dog.name = "rex";
+        dog.bones = 3;
+
+        assertThat(objectMapper.writeValueAsString(dog)).isEqualTo("{\"type\":\"DOG\",\"name\":\"rex\",\"bones\":3}");
+        Animal animal = objectMapper.readValue("{\"type\":\"DOG\",\"name\":\"rex\",\"bones\":3}", Animal.class);
+        assertThat(animal).isInstanceOf(Dog.class);
+        assertThat(((Dog) animal).bones).isEqualTo(3);
+    }
+
+    @Test
+    public void fail_to_compile_mapping_defined_only_for_serialization() {
+        try {
+            compiledMapping().on(type(Pojo.class).onSerialization().mapAll()).registerIn(objectMapper);
+            fail("MixInCompilationException expected");
+        } catch (MixInCompilationException e) {
+            assertThat(e.getMessage()).contains(Pojo.class.getName());
+        }
+    }
+
+    @Test
+    public void fail_to_compile_mapping_of_a_class_having_another_mix_in() {
+        objectMapper.addMixIn(Pojo.class, PojoParent.class);
+        try {
+            compiledMapping().on(type(Pojo.class).mapAll()).registerIn(objectMapper);
+            fail("MixInCompilationException expected");
+        } catch (MixInCompilationException e) {
+            assertThat(e.getMessage()).contains(Pojo.class.getName());
+        }
+    }
+
+    private Jacksonatic compiledMapping() {
+        return configureMapping(options().compileToMixIns().build());
+    }
+
+    private interface JacksonaticMappingSupplier {
+        Jacksonatic apply(Jacksonatic jacksonatic);
+    }
+}
@@ -0,0 +1,156 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.integration.test.polymorphism;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mrenou.jacksonatic.exception.InvalidTypeIdException;
+import com.github.mrenou.jacksonatic.mapping.ClassMapping;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.github.mrenou.jacksonatic.Jacksonatic.configureMapping;
+import static com.github.mrenou.jacksonatic.mapping.ClassMapping.type;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class CompactTypeIdsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    static class Event {
+        String id;
+    }
+
+    static class Created extends Event {
+        String name;
+    }
+
+    static class Deleted extends Event {
+    }
+
+    static class Renamed extends Event {
+    }
+
+    static class Container {
+        List<Event> events;
+    }
+
+    @Test
+    public void write_and_read_sub_types_with_compact_type_ids() throws IOException {
+        register(type(Event.class)
+                .mapAll()
+                .fieldForTypeName("type")
+                .addNamedSubType(Created.class, "created")
+                .addNamedSubType(Deleted.class, "deleted")
+                .compactTypeIds());
+        Created created = new Created();
+        created.id = "1";
+        created.name = "name";
+        Deleted deleted = new Deleted();
+        deleted.id = "2";
+        Container container = new Container();
+        container.events = Arrays.asList(created, deleted);
+
+        String json = objectMapper.writeValueAsString(container);
+
+        assertThat(json).isEqualTo("{\"events\":[{\"type\":0,\"id\":\"1\",\"name\":\"name\"},{\"type\":1,\"id\":\"2\"}]}");
+        List<Event> events = objectMapper.readValue(json, Container.class).events;
+        assertThat(((Created) events.get(0)).name).isEqualTo("name");
+        assertThat(events.get(1).id).isEqualTo("2");
+        assertThat(events.get(1)).isInstanceOf(Deleted.class);
+        assertThat(objectMapper.readValue("{\"id\":\"3\",\"type\":1}", Event.class)).isInstanceOf(Deleted.class);
+        assertThat(objectMapper.readValue("{\"type\":\"1\",\"id\":\"3\"}", Event.class)).isInstanceOf(Deleted.class);
+    }
+
+    @Test
+    public void keep_defined_type_ids() throws IOException {
+        register(type(Event.class)
+                .mapAll()
+                .fieldForTypeName("type")
+                .typeId(Deleted.class, 7)
+                .addNamedSubType(Created.class, "created")
+                .typeId(Created.class, 3)
+                .addNamedSubType(Renamed.class, "renamed"));
+
+        assertThat(objectMapper.writeValueAsString(new Created())).isEqualTo("{\"type\":3,\"id\":null,\"name\":null}");
+        assertThat(objectMapper.writeValueAsString(new Deleted())).isEqualTo("{\"type\":7,\"id\":null}");
+        assertThat(objectMapper.writeValueAsString(new Renamed())).isEqualTo("{\"type\":8,\"id\":null}");
+        assertThat(objectMapper.readValue("{\"type\":7}", Event.class)).isInstanceOf(Deleted.class);
+    }
+
+    @Test
+    public void fail_on_unknown_compact_type_id() throws IOException {
+        register(type(Event.class)
+                .mapAll()
+                .fieldForTypeName("type")
+                .addNamedSubType(Created.class, "created")
+                .addNamedSubType(Deleted.class, "deleted")
+                .compactTypeIds());
+
+        try {
+            objectMapper.readValue("{\"type\":2,\"id\":\"1\"}", Event.class);
+            fail("JsonMappingException expected");
+        } catch (JsonMappingException e) {
+            assertThat(e.getMessage()).contains("[0, 1]");
+        }
+    }
+
+    @Test(expected = InvalidTypeIdException.class)
+    public void fail_when_type_id_is_already_used() {
+        type(Event.class)
+                .addNamedSubType(Created.class, "created")
+                .compactTypeIds()
+                .typeId(Deleted.class, 0);
+    }
+
+    @Test(expected = InvalidTypeIdException.class)
+    public void fail_when_type_id_is_negative() {
+        type(Event.class).typeId(Deleted.class, -1);
+    }
+
+    @Test(expected = InvalidTypeIdException.class)
+    public void fail_when_type_id_is_too_large() {
+        type(Event.class).typeId(Deleted.class, 1_000_000_000);
+    }
+
+    @Test
+    public void read_and_write_large_type_id() throws IOException {
+        register(type(Event.class)
+                .mapAll()
+                .fieldForTypeName("type")
+                .addNamedSubType(Created.class, "created")
+                .typeId(Deleted.class, 50_000_000));
+        Deleted deleted = new Deleted();
+        deleted.id = "1";
+
+        String json = objectMapper.writeValueAsString(deleted);
+
+        assertThat(json).isEqualTo("{\"type\":50000000,\"id\":\"1\"}");
+        assertThat(objectMapper.readValue(json, Event.class)).isInstanceOf(Deleted.class);
+    }
+
+    private void register(ClassMapping<Event> eventMapping) {
+        configureMapping()
+                .on(eventMapping)
+                .on(type(Created.class).mapAll())
+                .on(type(Container.class).mapAll())
+                .registerIn(objectMapper);
+    }
+}
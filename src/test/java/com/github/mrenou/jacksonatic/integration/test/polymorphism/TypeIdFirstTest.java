@@ -0,0 +1,142 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.integration.test.polymorphism;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mrenou.jacksonatic.CompiledJacksonatic;
+import com.github.mrenou.jacksonatic.mapping.ClassMapping;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.github.mrenou.jacksonatic.Jacksonatic.configureMapping;
+import static com.github.mrenou.jacksonatic.mapping.ClassMapping.type;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TypeIdFirstTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    static class Event {
+        String id;
+    }
+
+    static class Created extends Event {
+        String name;
+    }
+
+    static class Deleted extends Event {
+    }
+
+    static class Container {
+        List<Event> events;
+    }
+
+    @Test
+    public void write_type_id_first_and_read_it_without_report() throws IOException {
+        CompiledJacksonatic mapping = register(objectMapper, type(Event.class)
+                .mapAll()
+                .fieldForTypeName("type")
+                .addNamedSubType(Created.class, "created")
+                .addNamedSubType(Deleted.class, "deleted")
+                .typeIdFirst());
+        Created created = new Created();
+        created.id = "1";
+        created.name = "name";
+        Deleted deleted = new Deleted();
+        deleted.id = "2";
+        Container container = new Container();
+        container.events = Arrays.asList(created, deleted);
+
+        String json = objectMapper.writeValueAsString(container);
+
+        assertThat(json).isEqualTo("{\"events\":[{\"type\":\"created\",\"id\":\"1\",\"name\":\"name\"},{\"type\":\"deleted\",\"id\":\"2\"}]}");
+        List<Event> events = objectMapper.readValue(json, Container.class).events;
+        assertThat(((Created) events.get(0)).name).isEqualTo("name");
+        assertThat(events.get(1)).isInstanceOf(Deleted.class);
+        assertThat(mapping.getTypeIdNotFirstCount(Event.class)).isEqualTo(0);
+    }
+
+    @Test
+    public void read_and_report_object_not_starting_with_type_id() throws IOException {
+        CompiledJacksonatic mapping = register(objectMapper, type(Event.class)
+                .mapAll()
+                .fieldForTypeName("type")
+                .addNamedSubType(Created.class, "created")
+                .typeIdFirst());
+
+        Event event = objectMapper.readValue("{\"id\":\"1\",\"name\":\"name\",\"type\":\"created\"}", Event.class);
+
+        assertThat(((Created) event).name).isEqualTo("name");
+        assertThat(event.id).isEqualTo("1");
+        assertThat(mapping.getTypeIdNotFirstCount(Event.class)).isEqualTo(1);
+    }
+
+    @Test
+    public void read_compact_type_id_first() throws IOException {
+        CompiledJacksonatic mapping = register(objectMapper, type(Event.class)
+                .mapAll()
+                .fieldForTypeName("type")
+                .typeIdFirst()
+                .addNamedSubType(Created.class, "created")
+                .typeId(Deleted.class, 5));
+        Deleted deleted = new Deleted();
+        deleted.id = "2";
+
+        String json = objectMapper.writeValueAsString(deleted);
+
+        assertThat(json).isEqualTo("{\"type\":5,\"id\":\"2\"}");
+        assertThat(objectMapper.readValue(json, Event.class)).isInstanceOf(Deleted.class);
+        assertThat(mapping.getTypeIdNotFirstCount(Event.class)).isEqualTo(0);
+        assertThat(objectMapper.readValue("{\"id\":\"3\",\"type\":5}", Event.class)).isInstanceOf(Deleted.class);
+        assertThat(mapping.getTypeIdNotFirstCount(Event.class)).isEqualTo(1);
+    }
+
+    @Test
+    public void count_objects_not_starting_with_type_id_by_snapshot() throws IOException {
+        ObjectMapper otherObjectMapper = new ObjectMapper();
+        CompiledJacksonatic mapping = register(objectMapper, eventMappingReadingTypeIdFirst());
+        CompiledJacksonatic otherMapping = register(otherObjectMapper, eventMappingReadingTypeIdFirst());
+
+        objectMapper.readValue("{\"id\":\"1\",\"type\":\"created\"}", Event.class);
+        objectMapper.readValue("{\"id\":\"2\",\"type\":\"created\"}", Event.class);
+        otherObjectMapper.readValue("{\"id\":\"3\",\"type\":\"created\"}", Event.class);
+
+        assertThat(mapping.getTypeIdNotFirstCount(Event.class)).isEqualTo(2);
+        assertThat(otherMapping.getTypeIdNotFirstCount(Event.class)).isEqualTo(1);
+    }
+
+    private ClassMapping<Event> eventMappingReadingTypeIdFirst() {
+        return type(Event.class)
+                .mapAll()
+                .fieldForTypeName("type")
+                .addNamedSubType(Created.class, "created")
+                .typeIdFirst();
+    }
+
+    private CompiledJacksonatic register(ObjectMapper objectMapper, ClassMapping<Event> eventMapping) {
+        CompiledJacksonatic mapping = configureMapping()
+                .on(eventMapping)
+                .on(type(Created.class).mapAll())
+                .on(type(Deleted.class).mapAll())
+                .on(type(Container.class).mapAll())
+                .compile();
+        mapping.registerIn(objectMapper);
+        return mapping;
+    }
+}
@@ -0,0 +1,185 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.integration.test.polymorphism;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.cfg.HandlerInstantiator;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
+import com.fasterxml.jackson.databind.jsontype.TypeResolverBuilder;
+import com.github.mrenou.jacksonatic.Jacksonatic;
+import com.github.mrenou.jacksonatic.JacksonaticOptions;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.github.mrenou.jacksonatic.Jacksonatic.configureMapping;
+import static com.github.mrenou.jacksonatic.JacksonaticOptions.options;
+import static com.github.mrenou.jacksonatic.mapping.ClassMapping.type;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class TypeIdResolverTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    static class Event {
+        String id;
+    }
+
+    static class Created extends Event {
+        String name;
+    }
+
+    static class Deleted extends Event {
+    }
+
+    static class Renamed extends Event {
+        @JsonDeserialize(using = PrefixDeserializer.class)
+        String name;
+    }
+
+    static class Container {
+        List<Event> events;
+    }
+
+    static class PrefixDeserializer extends JsonDeserializer<String> {
+
+        private final String prefix;
+
+        PrefixDeserializer(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public String deserialize(JsonParser jsonParser, DeserializationContext context) throws IOException {
+            return prefix + jsonParser.getValueAsString();
+        }
+    }
+
+    @Test
+    public void resolve_type_ids_of_sub_types() throws IOException {
+        mapping(options().build()).registerIn(objectMapper);
+        Created created = new Created();
+        created.id = "1";
+        created.name = "name";
+        Deleted deleted = new Deleted();
+        deleted.id = "2";
+        Container container = new Container();
+        container.events = Arrays.asList(created, deleted);
+
+        String json = objectMapper.writeValueAsString(container);
+
+        assertThat(objectMapper.readTree(json)).isEqualTo(objectMapper.readTree(
+                "{\"events\":[{\"type\":\"created\",\"id\":\"1\",\"name\":\"name\"},{\"type\":\"deleted\",\"id\":\"2\"}]}"));
+        List<Event> events = objectMapper.readValue(json, Container.class).events;
+        assertThat(events).hasSize(2);
+        assertThat(((Created) events.get(0)).name).isEqualTo("name");
+        assertThat(events.get(1)).isInstanceOf(Deleted.class);
+        assertThat(objectMapper.readValue("{\"type\":\"deleted\",\"id\":\"3\"}", Event.class)).isInstanceOf(Deleted.class);
+    }
+
+    @Test
+    public void fail_on_unknown_type_id() throws IOException {
+        mapping(options().build()).registerIn(objectMapper);
+
+        try {
+            objectMapper.readValue("{\"type\":\"updated\",\"id\":\"1\"}", Event.class);
+            fail("JsonMappingException expected");
+        } catch (JsonMappingException e) {
+            assertThat(e.getMessage()).contains("updated").contains("created, deleted, renamed");
+        }
+    }
+
+    @Test
+    public void create_other_handlers_with_handler_instantiator_already_set() throws IOException {
+        objectMapper.setHandlerInstantiator(new PrefixHandlerInstantiator());
+        mapping(options().build()).registerIn(objectMapper);
+
+        Event event = objectMapper.readValue("{\"type\":\"renamed\",\"id\":\"1\",\"name\":\"name\"}", Event.class);
+
+        assertThat(((Renamed) event).name).isEqualTo("prefix-name");
+        assertThat(objectMapper.getSerializationConfig().getHandlerInstantiator()).isInstanceOf(PrefixHandlerInstantiator.class);
+    }
+
+    @Test
+    public void resolve_type_ids_with_handler_instantiator_set_after_registration() throws IOException {
+        mapping(options().build()).registerIn(objectMapper);
+        objectMapper.setHandlerInstantiator(new PrefixHandlerInstantiator());
+        Created created = new Created();
+        created.id = "1";
+        created.name = "name";
+
+        String json = objectMapper.writeValueAsString(created);
+
+        assertThat(objectMapper.readTree(json)).isEqualTo(objectMapper.readTree("{\"type\":\"created\",\"id\":\"1\",\"name\":\"name\"}"));
+        assertThat(objectMapper.readValue(json, Event.class)).isInstanceOf(Created.class);
+        Event event = objectMapper.readValue("{\"type\":\"renamed\",\"id\":\"1\",\"name\":\"name\"}", Event.class);
+        assertThat(((Renamed) event).name).isEqualTo("prefix-name");
+    }
+
+    @Test
+    public void let_jackson_resolve_type_ids_when_type_id_tables_are_disabled() throws IOException {
+        mapping(options().disableTypeIdTables().build()).registerIn(objectMapper);
+
+        assertThat(objectMapper.readValue("{\"type\":\"deleted\",\"id\":\"1\"}", Event.class)).isInstanceOf(Deleted.class);
+    }
+
+    private Jacksonatic mapping(JacksonaticOptions options) {
+        return configureMapping(options)
+                .on(type(Event.class)
+                        .mapAll()
+                        .fieldForTypeName("type")
+                        .addNamedSubType(Created.class, "created")
+                        .addNamedSubType(Deleted.class, "deleted")
+                        .addNamedSubType(Renamed.class, "renamed"))
+                .on(type(Created.class).mapAll())
+                .on(type(Container.class).mapAll());
+    }
+
+    private static class PrefixHandlerInstantiator extends HandlerInstantiator {
+
+        @Override
+        public JsonDeserializer<?> deserializerInstance(DeserializationConfig config, Annotated annotated, Class<?> deserClass) {
+            return deserClass == PrefixDeserializer.class ? new PrefixDeserializer("prefix-") : null;
+        }
+
+        @Override
+        public KeyDeserializer keyDeserializerInstance(DeserializationConfig config, Annotated annotated, Class<?> keyDeserClass) {
+            return null;
+        }
+
+        @Override
+        public JsonSerializer<?> serializerInstance(SerializationConfig config, Annotated annotated, Class<?> serClass) {
+            return null;
+        }
+
+        @Override
+        public TypeResolverBuilder<?> typeResolverBuilderInstance(MapperConfig<?> config, Annotated annotated, Class<?> builderClass) {
+            return null;
+        }
+
+        @Override
+        public TypeIdResolver typeIdResolverInstance(MapperConfig<?> config, Annotated annotated, Class<?> resolverClass) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.integration.test.shape;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.github.mrenou.jacksonatic.Jacksonatic;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.github.mrenou.jacksonatic.Jacksonatic.configureMapping;
+import static com.github.mrenou.jacksonatic.JacksonaticOptions.options;
+import static com.github.mrenou.jacksonatic.mapping.ClassMapping.type;
+import static com.github.mrenou.jacksonatic.mapping.ParameterCriteria.matchField;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ArrayShapeTest {
+
+    static class Point {
+
+        private String name;
+
+        private int y;
+
+        private int x;
+
+        private String ignored;
+    }
+
+    static class Pojo {
+
+        private final String field1;
+
+        private String field2;
+
+        private final String field3;
+
+        public Pojo(String field3, String field1) {
+            this.field1 = field1;
+            this.field3 = field3;
+        }
+    }
+
+    @JsonPropertyOrder({"y", "x"})
+    static class OrderedPoint {
+
+        private int x;
+
+        private int y;
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void write_and_read_mapped_fields_as_array_by_name() throws IOException {
+        pointMapping().registerIn(objectMapper);
+        Point point = new Point();
+        point.name = "point";
+        point.x = 1;
+        point.y = 2;
+        point.ignored = "ignored";
+
+        String json = objectMapper.writeValueAsString(Arrays.asList(point, point));
+
+        assertThat(json).isEqualTo("[[\"point\",1,2],[\"point\",1,2]]");
+        List<Point> points = objectMapper.readValue(json, TypeFactory.defaultInstance().constructCollectionType(List.class, Point.class));
+        assertThat(points).hasSize(2);
+        assertThat(points.get(1)).isEqualToIgnoringGivenFields(point, "ignored");
+        assertThat(points.get(1).ignored).isNull();
+    }
+
+    @Test
+    public void order_properties_by_creator_parameters_first() throws IOException {
+        configureMapping()
+                .on(type(Pojo.class)
+                        .mapAll()
+                        .withConstructor(matchField("field3").mappedBy("field3"), matchField("field1").mappedBy("field1"))
+                        .asArray())
+                .registerIn(objectMapper);
+        Pojo pojo = new Pojo("3", "1");
+        pojo.field2 = "2";
+
+        String json = objectMapper.writeValueAsString(pojo);
+
+        assertThat(json).isEqualTo("[\"3\",\"1\",\"2\"]");
+        assertThat(objectMapper.readValue(json, Pojo.class)).isEqualToComparingFieldByField(pojo);
+    }
+
+    @Test
+    public void keep_property_order_defined_on_class() throws IOException {
+        configureMapping().on(type(OrderedPoint.class).mapAll().asArray()).registerIn(objectMapper);
+        OrderedPoint point = new OrderedPoint();
+        point.x = 1;
+        point.y = 2;
+
+        assertThat(objectMapper.writeValueAsString(point)).isEqualTo("[2,1]");
+    }
+
+    @Test
+    public void write_as_array_with_compiled_mix_ins() throws IOException {
+        configureMapping(options().compileToMixIns().build())
+                .on(type(Point.class)
+                        .mapAll()
+                        .map("name", "label")
+                        .ignore("ignored")
+                        .asArray())
+                .registerIn(objectMapper);
+        Point point = new Point();
+        point.name = "point";
+        point.x = 1;
+        point.y = 2;
+
+        assertThat(objectMapper.writeValueAsString(point)).isEqualTo("[\"point\",1,2]");
+        assertThat(objectMapper.readValue("[\"point\",1,2]", Point.class).name).isEqualTo("point");
+    }
+
+    private Jacksonatic pointMapping() {
+        return configureMapping()
+                .on(type(Point.class)
+                        .mapAll()
+                        .map("name", "label")
+                        .ignore("ignored")
+                        .asArray());
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.annotations;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import org.junit.Test;
+
+import static com.github.mrenou.jacksonatic.annotation.JacksonaticJsonIgnore.jsonIgnore;
+import static com.github.mrenou.jacksonatic.annotation.JacksonaticJsonProperty.jsonProperty;
+import static com.github.mrenou.jacksonatic.annotation.JacksonaticJsonTypeName.jsonTypeName;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AnnotationsTest {
+
+    @Test
+    public void add_replace_and_remove_annotations() {
+        Annotations annotations = new Annotations();
+
+        annotations.add(jsonProperty("first"));
+        annotations.add(jsonTypeName("name"));
+        annotations.add(jsonIgnore());
+        annotations.add(jsonProperty("second"));
+        annotations.remove(JsonTypeName.class);
+
+        assertThat(annotations).hasSize(2);
+        assertThat(((JsonProperty) annotations.get(JsonProperty.class)).value()).isEqualTo("second");
+        assertThat(annotations.containsKey(JsonIgnore.class)).isTrue();
+        assertThat(annotations.getOpt(JsonTypeName.class).isPresent()).isFalse();
+        assertThat(annotations.keySet()).containsExactly(JsonProperty.class, JsonIgnore.class);
+    }
+
+    @Test
+    public void write_in_a_copy_without_modifying_the_original() {
+        Annotations annotations = new Annotations();
+        annotations.add(jsonProperty("field"));
+
+        Annotations copy = annotations.copy();
+        copy.add(jsonIgnore());
+        annotations.remove(JsonProperty.class);
+
+        assertThat(annotations).isEmpty();
+        assertThat(copy.keySet()).containsExactly(JsonProperty.class, JsonIgnore.class);
+    }
+
+    @Test
+    public void merge_with_parent_annotations() {
+        Annotations annotations = new Annotations();
+        annotations.add(jsonIgnore());
+        Annotations parentAnnotations = new Annotations();
+        parentAnnotations.add(jsonProperty("field"));
+        parentAnnotations.add(jsonTypeName("name"));
+
+        Annotations mergedAnnotations = annotations.mergeWithParent(parentAnnotations);
+
+        assertThat(mergedAnnotations.keySet()).containsOnly(JsonIgnore.class, JsonTypeName.class);
+        assertThat(annotations.mergeWith(parentAnnotations).keySet()).containsOnly(JsonIgnore.class, JsonProperty.class, JsonTypeName.class);
+        assertThat(annotations.keySet()).containsExactly(JsonIgnore.class);
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.cache;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SerializedFormCacheTest {
+
+    private static final Object CONFIG = new Object();
+
+    @Test
+    public void find_form_by_identity_of_the_instance() {
+        SerializedFormCache cache = new SerializedFormCache(10);
+        String instance = new String("EUR");
+        byte[] form = {1};
+
+        cache.put(instance, CONFIG, 0, form);
+
+        assertThat(cache.get(instance, CONFIG, 0)).isSameAs(form);
+        assertThat(cache.get(new String("EUR"), CONFIG, 0)).isNull();
+        assertThat(cache.getStats().getHits()).isEqualTo(1);
+        assertThat(cache.getStats().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    public void find_form_written_with_the_same_config_and_features() {
+        SerializedFormCache cache = new SerializedFormCache(10);
+        Object instance = new Object();
+        byte[] form = {1};
+
+        cache.put(instance, CONFIG, 1, form);
+
+        assertThat(cache.get(instance, CONFIG, 2)).isNull();
+        assertThat(cache.get(instance, new Object(), 1)).isNull();
+        assertThat(cache.get(instance, CONFIG, 1)).isSameAs(form);
+    }
+
+    @Test
+    public void clear_cache_when_full() {
+        SerializedFormCache cache = new SerializedFormCache(2);
+        Object[] instances = {new Object(), new Object(), new Object()};
+
+        Arrays.stream(instances).forEach(instance -> cache.put(instance, CONFIG, 0, new byte[0]));
+
+        assertThat(cache.getStats().getSize()).isEqualTo(1);
+        assertThat(cache.get(instances[2], CONFIG, 0)).isNotNull();
+        assertThat(cache.get(instances[0], CONFIG, 0)).isNull();
+    }
+}
@@ -0,0 +1,254 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.introspection;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.github.mrenou.jacksonatic.CompiledJacksonatic;
+import com.github.mrenou.jacksonatic.Jacksonatic;
+import com.github.mrenou.jacksonatic.internal.JacksonOperation;
+import com.github.mrenou.jacksonatic.internal.JacksonaticInternal;
+import com.github.mrenou.jacksonatic.internal.mapping.ClassMappingInternal;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.github.mrenou.jacksonatic.JacksonaticOptions.options;
+import static com.github.mrenou.jacksonatic.mapping.ClassMapping.type;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AnnotatedClassConstructorTest {
+
+    private static final int THREADS = 16;
+
+    private static final int ROUNDS = 20;
+
+    private static final List<JacksonOperation> OPERATIONS = Arrays.asList(JacksonOperation.SERIALIZATION, JacksonOperation.DESERIALIZATION, JacksonOperation.NO_SUPER_TYPES);
+
+    static class Parent {
+        String parentField = "parent";
+    }
+
+    static class Child1 extends Parent {
+        String childField = "child1";
+    }
+
+    static class Child2 extends Parent {
+        String childField = "child2";
+    }
+
+    static class GrandChild extends Child1 {
+        String grandChildField = "grandChild";
+    }
+
+    static class NotMapped {
+    }
+
+    static class Base {
+        String baseField = "base";
+    }
+
+    static class Sub extends Base {
+        String subField = "sub";
+    }
+
+    @JsonIgnoreProperties("baseField")
+    static abstract class BaseMixIn {
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final List<Class<Object>> TYPES = Arrays.asList(
+            (Class<Object>) (Class<?>) Parent.class,
+            (Class<Object>) (Class<?>) Child1.class,
+            (Class<Object>) (Class<?>) Child2.class,
+            (Class<Object>) (Class<?>) GrandChild.class,
+            (Class<Object>) (Class<?>) NotMapped.class);
+
+    private final Jacksonatic jacksonatic = Jacksonatic.configureMapping()
+            .on(type(Parent.class).mapAll())
+            .on(type(Child1.class).map("childField", "child"))
+            .on(type(Child2.class).typeName("child2"))
+            .on(type(GrandChild.class).ignore("childField"));
+
+    @Test
+    public void compute_merged_class_mapping_once_when_requested_concurrently() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                AnnotatedClassConstructor annotatedClassConstructor = new AnnotatedClassConstructor((JacksonaticInternal) jacksonatic);
+                List<List<Optional<ClassMappingInternal<Object>>>> resultsByThread = runConcurrently(executorService, () -> {
+                    List<Optional<ClassMappingInternal<Object>>> results = new ArrayList<>();
+                    for (JacksonOperation operation : OPERATIONS) {
+                        for (Class<Object> type : TYPES) {
+                            results.add(annotatedClassConstructor.getMergedClassMapping(operation, type));
+                        }
+                    }
+                    return results;
+                });
+
+                List<Optional<ClassMappingInternal<Object>>> expectedResults = resultsByThread.get(0);
+                for (int i = 0; i < expectedResults.size(); i++) {
+                    Class<?> type = TYPES.get(i % TYPES.size());
+                    if (type == NotMapped.class) {
+                        assertThat(expectedResults.get(i).isPresent()).isFalse();
+                    } else {
+                        assertThat(expectedResults.get(i).get().getType()).isEqualTo(type);
+                        assertThat(expectedResults.get(i).get().allFieldsAreMapped()).isTrue();
+                    }
+                    for (List<Optional<ClassMappingInternal<Object>>> results : resultsByThread) {
+                        assertThat(results.get(i).orElse(null)).isSameAs(expectedResults.get(i).orElse(null));
+                    }
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void introspect_mapped_classes_concurrently() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                ObjectMapper objectMapper = new ObjectMapper();
+                jacksonatic.registerIn(objectMapper);
+                List<List<String>> resultsByThread = runConcurrently(executorService, () -> Arrays.asList(
+                        objectMapper.writeValueAsString(new GrandChild()),
+                        objectMapper.writeValueAsString(new Child2()),
+                        objectMapper.writeValueAsString(new Child1()),
+                        objectMapper.writeValueAsString(new Parent())));
+
+                for (List<String> results : resultsByThread) {
+                    assertThat(results).containsExactly(
+                            "{\"parentField\":\"parent\",\"grandChildField\":\"grandChild\"}",
+                            "{\"parentField\":\"parent\",\"childField\":\"child2\"}",
+                            "{\"parentField\":\"parent\",\"child\":\"child1\"}",
+                            "{\"parentField\":\"parent\"}");
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void resolve_merged_class_mappings_in_parallel() {
+        AnnotatedClassConstructor annotatedClassConstructor = new AnnotatedClassConstructor((JacksonaticInternal) jacksonatic);
+
+        int resolvedCount = annotatedClassConstructor.resolveMergedClassMappings(4);
+
+        assertThat(resolvedCount).isEqualTo(8);
+        for (JacksonOperation operation : Arrays.asList(JacksonOperation.SERIALIZATION, JacksonOperation.DESERIALIZATION)) {
+            ClassMappingInternal<Object> classMapping = annotatedClassConstructor.getMergedClassMapping(operation, TYPES.get(3)).get();
+            assertThat(classMapping.allFieldsAreMapped()).isTrue();
+            assertThat(annotatedClassConstructor.getMergedClassMapping(operation, TYPES.get(3)).get()).isSameAs(classMapping);
+        }
+    }
+
+    @Test
+    public void register_mapping_resolved_eagerly() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Jacksonatic.configureMapping(options().eagerResolution(2))
+                .on(type(Parent.class).mapAll())
+                .on(type(Child1.class).map("childField", "child"))
+                .registerIn(objectMapper);
+
+        assertThat(objectMapper.writeValueAsString(new Child1())).isEqualTo("{\"parentField\":\"parent\",\"child\":\"child1\"}");
+        assertThat(objectMapper.readValue("{\"parentField\":\"p\",\"child\":\"c\"}", Child1.class).childField).isEqualTo("c");
+    }
+
+    @Test
+    public void reuse_decorated_class_of_a_mapped_type() {
+        AnnotatedClassConstructor annotatedClassConstructor = new AnnotatedClassConstructor((JacksonaticInternal) jacksonatic);
+        JacksonAnnotationIntrospector annotationIntrospector = new JacksonAnnotationIntrospector();
+
+        AnnotatedClass annotatedClass = annotatedClassConstructor.constructForSerialization(Child1.class, annotationIntrospector, null);
+
+        assertThat(annotatedClassConstructor.constructForSerialization(Child1.class, annotationIntrospector, null)).isSameAs(annotatedClass);
+        assertThat(annotatedClassConstructor.constructForDeserialization(Child1.class, annotationIntrospector, null)).isNotSameAs(annotatedClass);
+        assertThat(annotatedClassConstructor.constructForSerialization(Child1.class, new JacksonAnnotationIntrospector(), null)).isNotSameAs(annotatedClass);
+        assertThat(annotatedClassConstructor.constructForSerialization(NotMapped.class, annotationIntrospector, null))
+                .isNotSameAs(annotatedClassConstructor.constructForSerialization(NotMapped.class, annotationIntrospector, null));
+    }
+
+    @Test
+    public void decorate_a_class_without_changing_its_class_mapping() {
+        AnnotatedClassConstructor annotatedClassConstructor = new AnnotatedClassConstructor((JacksonaticInternal) jacksonatic);
+        ClassMappingInternal<Object> classMapping = annotatedClassConstructor.getMergedClassMapping(JacksonOperation.SERIALIZATION, TYPES.get(3)).get();
+
+        AnnotatedClass annotatedClass = annotatedClassConstructor.constructForSerialization(GrandChild.class, new JacksonAnnotationIntrospector(), null);
+
+        assertThat(annotatedClass.fields()).hasSize(3);
+        assertThat(classMapping.getFieldMappingInternalOpt("parentField").isPresent()).isFalse();
+        assertThat(classMapping.getFieldMappingInternalOpt("grandChildField").isPresent()).isFalse();
+        assertThat(classMapping.getFieldMappingInternalOpt("childField").get().isIgnored()).isTrue();
+    }
+
+    @Test
+    public void decorate_again_a_class_evicted_from_cache() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Jacksonatic.configureMapping(options().annotatedClassCacheSize(1).build())
+                .on(type(Parent.class).mapAll())
+                .on(type(Child1.class).map("childField", "child"))
+                .registerIn(objectMapper);
+
+        assertThat(objectMapper.writeValueAsString(new Child1())).isEqualTo("{\"parentField\":\"parent\",\"child\":\"child1\"}");
+        assertThat(objectMapper.writeValueAsString(new Parent())).isEqualTo("{\"parentField\":\"parent\"}");
+        assertThat(objectMapper.readValue("{\"parentField\":\"p\",\"child\":\"c\"}", Child1.class).childField).isEqualTo("c");
+    }
+
+    @Test
+    public void decorate_a_class_for_each_mix_in_of_its_super_types() throws Exception {
+        CompiledJacksonatic compiledJacksonatic = Jacksonatic.configureMapping()
+                .on(type(Sub.class).mapAll())
+                .compile();
+        ObjectMapper objectMapper = new ObjectMapper();
+        ObjectMapper objectMapperWithMixIn = new ObjectMapper();
+        objectMapperWithMixIn.addMixIn(Base.class, BaseMixIn.class);
+        compiledJacksonatic.registerIn(objectMapper);
+        compiledJacksonatic.registerIn(objectMapperWithMixIn);
+
+        assertThat(objectMapper.writeValueAsString(new Sub())).isEqualTo("{\"baseField\":\"base\",\"subField\":\"sub\"}");
+        assertThat(objectMapperWithMixIn.writeValueAsString(new Sub())).isEqualTo("{\"subField\":\"sub\"}");
+    }
+
+    private <T> List<T> runConcurrently(ExecutorService executorService, Callable<T> task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executorService.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+}
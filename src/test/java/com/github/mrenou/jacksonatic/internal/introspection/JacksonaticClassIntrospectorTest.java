@@ -0,0 +1,73 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.introspection;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import static com.github.mrenou.jacksonatic.Jacksonatic.configureMapping;
+import static com.github.mrenou.jacksonatic.mapping.ClassMapping.type;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JacksonaticClassIntrospectorTest {
+
+    static class Parent {
+        String field1;
+    }
+
+    static class Child extends Parent {
+        String field2;
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void cache_direct_class_annotations() {
+        configureMapping()
+                .on(type(Parent.class)
+                        .mapAll()
+                        .fieldForTypeName("type")
+                        .addNamedSubType(Child.class, "CHILD"))
+                .on(type(Child.class).mapAll())
+                .registerIn(objectMapper);
+        DeserializationConfig config = objectMapper.getDeserializationConfig();
+        JacksonaticClassIntrospector classIntrospector = (JacksonaticClassIntrospector) config.getClassIntrospector();
+
+        BeanDescription description = config.introspectDirectClassAnnotations(Parent.class);
+
+        assertThat(description.getClassInfo().getAnnotation(JsonSubTypes.class).value()).hasSize(1);
+        assertThat(config.introspectDirectClassAnnotations(Parent.class)).isSameAs(description);
+        assertThat(config.introspectDirectClassAnnotations(Child.class)).isNotSameAs(description);
+        assertThat(classIntrospector.getDirectClassAnnotationsCacheMisses()).isEqualTo(2);
+        assertThat(classIntrospector.getDirectClassAnnotationsCacheHits()).isEqualTo(1);
+    }
+
+    @Test
+    public void clear_caches_when_registering_a_new_mapping() {
+        configureMapping().on(type(Parent.class).mapAll()).registerIn(objectMapper);
+        BeanDescription description = objectMapper.getDeserializationConfig().introspectDirectClassAnnotations(Parent.class);
+
+        configureMapping().on(type(Parent.class).typeName("PARENT")).registerIn(objectMapper);
+
+        BeanDescription newDescription = objectMapper.getDeserializationConfig().introspectDirectClassAnnotations(Parent.class);
+        assertThat(newDescription).isNotSameAs(description);
+        assertThat(newDescription.getClassInfo().hasAnnotation(JsonTypeName.class)).isTrue();
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.mapping;
+
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+
+import static com.github.mrenou.jacksonatic.internal.mapping.method.MethodSignature.methodSignature;
+import static com.github.mrenou.jacksonatic.internal.mapping.method.MethodSignature.methodSignatureIgnoringParameters;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TypeMetadataTest {
+
+    static class Parent {
+
+        private static String CONSTANT = "constant";
+
+        private String field1;
+
+        void setField1(String field1) {
+            this.field1 = field1;
+        }
+    }
+
+    static class Child extends Parent {
+
+        private Integer field2;
+
+        Integer getField2() {
+            return field2;
+        }
+    }
+
+    @Test
+    public void share_metadata_of_a_type() {
+        assertThat(TypeMetadata.of(Child.class)).isSameAs(TypeMetadata.of(Child.class));
+        assertThat(TypeMetadata.of(Child.class)).isNotSameAs(TypeMetadata.of(Parent.class));
+    }
+
+    @Test
+    public void read_fields_with_inheritance_without_static_fields() {
+        assertThat(TypeMetadata.of(Child.class).getFieldsWithInheritance()).extracting(Field::getName).containsExactly("field1", "field2");
+        assertThat(TypeMetadata.of(Child.class).hasField("field1")).isTrue();
+        assertThat(TypeMetadata.of(Child.class).hasField("CONSTANT")).isFalse();
+        assertThat(TypeMetadata.of(Parent.class).hasField("field2")).isFalse();
+    }
+
+    @Test
+    public void read_methods_with_inheritance() {
+        assertThat(TypeMetadata.of(Child.class).hasMethod(methodSignature("setField1", String.class))).isTrue();
+        assertThat(TypeMetadata.of(Child.class).hasMethod(methodSignatureIgnoringParameters("getField2"))).isTrue();
+        assertThat(TypeMetadata.of(Child.class).hasMethod(methodSignature("setField2", Integer.class))).isFalse();
+    }
+}
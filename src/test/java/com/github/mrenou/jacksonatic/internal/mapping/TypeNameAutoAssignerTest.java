@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.mapping;
+
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.github.mrenou.jacksonatic.internal.JacksonOperation;
+import com.github.mrenou.jacksonatic.internal.JacksonaticInternal;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static com.github.mrenou.jacksonatic.Jacksonatic.configureMapping;
+import static com.github.mrenou.jacksonatic.mapping.ClassMapping.type;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TypeNameAutoAssignerTest {
+
+    static class Parent {
+    }
+
+    static class Child extends Parent {
+    }
+
+    static class GrandChild extends Child {
+    }
+
+    static class OtherChild extends Parent {
+    }
+
+    @Test
+    public void assign_type_name_declared_by_the_parent_to_the_child() {
+        JacksonaticInternal jacksonatic = (JacksonaticInternal) configureMapping()
+                .on(type(Parent.class).addNamedSubType(Child.class, "CHILD"))
+                .on(type(Child.class).mapAll())
+                .on(type(OtherChild.class).mapAll());
+
+        assertThat(typeName(jacksonatic, Child.class)).contains("CHILD");
+        assertThat(typeName(jacksonatic, Parent.class)).isEmpty();
+        assertThat(typeName(jacksonatic, OtherChild.class)).isEmpty();
+    }
+
+    @Test
+    public void assign_type_name_declared_by_the_nearest_super_type() {
+        JacksonaticInternal jacksonatic = (JacksonaticInternal) configureMapping()
+                .on(type(Parent.class).addNamedSubType(GrandChild.class, "FROM_PARENT"))
+                .on(type(Child.class).addNamedSubType(GrandChild.class, "FROM_CHILD"))
+                .on(type(GrandChild.class).mapAll());
+
+        assertThat(typeName(jacksonatic, GrandChild.class)).contains("FROM_CHILD");
+    }
+
+    @Test
+    public void keep_type_name_defined_by_the_child() {
+        JacksonaticInternal jacksonatic = (JacksonaticInternal) configureMapping()
+                .on(type(Parent.class).addNamedSubType(Child.class, "CHILD"))
+                .on(type(Child.class).typeName("MY_CHILD"));
+
+        assertThat(typeName(jacksonatic, Child.class)).contains("MY_CHILD");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<String> typeName(JacksonaticInternal jacksonatic, Class<?> type) {
+        return jacksonatic.getClassesMappingByOperation().get(JacksonOperation.ANY).getOpt((Class<Object>) type)
+                .flatMap(classMapping -> classMapping.getAnnotationOpt(JsonTypeName.class))
+                .map(JsonTypeName::value);
+    }
+}
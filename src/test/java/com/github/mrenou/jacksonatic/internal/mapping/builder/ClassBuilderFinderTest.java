@@ -0,0 +1,97 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.mapping.builder;
+
+import com.github.mrenou.jacksonatic.exception.ClassBuilderNotFoundException;
+import com.github.mrenou.jacksonatic.internal.JacksonOperation;
+import com.github.mrenou.jacksonatic.internal.mapping.ClassMappingInternal;
+import com.github.mrenou.jacksonatic.internal.mapping.builder.parameter.ParameterCriteriaInternal;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class ClassBuilderFinderTest {
+
+    public static class Pojo {
+
+        private final String field1;
+
+        private final Integer field2;
+
+        public Pojo(String field1) {
+            this(field1, null);
+        }
+
+        public Pojo(String field1, Integer field2) {
+            this.field1 = field1;
+            this.field2 = field2;
+        }
+
+        public static Pojo of(String field1, Integer field2) {
+            return new Pojo(field1, field2);
+        }
+    }
+
+    private final ClassBuilderFinder classBuilderFinder = new ClassBuilderFinder();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void find_class_builder_once_for_an_operation() throws NoSuchMethodException {
+        ClassMappingInternal<Object> classMapping = new ClassMappingInternal<>((Class<Object>) (Class<?>) Pojo.class);
+        classMapping.mapAllFields();
+        ClassBuilderCriteria classBuilderCriteria = ClassBuilderCriteria.mapAConstructorOrStaticFactory();
+
+        Optional<ClassBuilderMapping> classBuilderMapping = classBuilderFinder.find(JacksonOperation.DESERIALIZATION, classMapping, classBuilderCriteria);
+
+        assertThat(classBuilderMapping.get().getConstructor()).isEqualTo(Pojo.class.getConstructor(String.class, Integer.class));
+        assertThat(classBuilderFinder.find(JacksonOperation.DESERIALIZATION, classMapping, classBuilderCriteria).get()).isSameAs(classBuilderMapping.get());
+        assertThat(classBuilderFinder.find(JacksonOperation.SERIALIZATION, classMapping, classBuilderCriteria).get()).isNotSameAs(classBuilderMapping.get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void find_class_builder_with_fields_mapped_by_the_field_plan() throws NoSuchMethodException {
+        ClassMappingInternal<Object> classMapping = new ClassMappingInternal<>((Class<Object>) (Class<?>) Pojo.class);
+        classMapping.mapAllFields();
+        classMapping.ignore("field2");
+
+        Optional<ClassBuilderMapping> classBuilderMapping = classBuilderFinder.find(JacksonOperation.DESERIALIZATION, classMapping, ClassBuilderCriteria.mapAConstructorOrStaticFactory());
+
+        assertThat(classBuilderMapping.get().getConstructor()).isEqualTo(Pojo.class.getConstructor(String.class));
+        assertThat(classBuilderMapping.get().getParametersMapping()).hasSize(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void fail_each_time_when_no_class_builder_matches_criteria() {
+        ClassMappingInternal<Object> classMapping = new ClassMappingInternal<>((Class<Object>) (Class<?>) Pojo.class);
+        ClassBuilderCriteria classBuilderCriteria = ClassBuilderCriteria.mapStaticFactory(Pojo.class, "of",
+                Collections.singletonList(new ParameterCriteriaInternal(String.class, null, null)));
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                classBuilderFinder.find(JacksonOperation.DESERIALIZATION, classMapping, classBuilderCriteria);
+                fail("ClassBuilderNotFoundException expected");
+            } catch (ClassBuilderNotFoundException e) {
+                assertThat(e.getMessage()).contains(Pojo.class.getName());
+            }
+        }
+    }
+}
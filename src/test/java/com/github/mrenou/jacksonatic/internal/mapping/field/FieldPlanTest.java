@@ -0,0 +1,70 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.mapping.field;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.mrenou.jacksonatic.internal.mapping.ClassMappingInternal;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FieldPlanTest {
+
+    static class Pojo {
+        String field1;
+        String field2;
+        String field3;
+    }
+
+    private final ClassMappingInternal<Pojo> classMapping = new ClassMappingInternal<>(Pojo.class);
+
+    @Test
+    public void map_by_default_fields_not_ignored_when_all_fields_are_mapped() {
+        classMapping.mapAllFields();
+        classMapping.ignore("field1");
+        classMapping.map("field2", "renamed");
+
+        FieldPlan fieldPlan = classMapping.getFieldPlan();
+
+        assertThat(fieldPlan.isMapped("field1")).isFalse();
+        assertThat(((JsonProperty) fieldPlan.getAnnotations("field2").get(JsonProperty.class)).value()).isEqualTo("renamed");
+        assertThat(fieldPlan.isMapped("field3")).isTrue();
+    }
+
+    @Test
+    public void ignore_by_default_fields_not_mapped() {
+        classMapping.map("field2");
+
+        FieldPlan fieldPlan = classMapping.getFieldPlan();
+
+        assertThat(fieldPlan.getAnnotations("field1").containsKey(JsonIgnore.class)).isTrue();
+        assertThat(fieldPlan.isMapped("field2")).isTrue();
+        assertThat(classMapping.getFieldMappingInternalOpt("field1").isPresent()).isFalse();
+    }
+
+    @Test
+    public void plan_again_when_a_field_mapping_changes() {
+        FieldPlan fieldPlan = classMapping.getFieldPlan();
+        assertThat(classMapping.getFieldPlan()).isSameAs(fieldPlan);
+
+        classMapping.map("field1");
+
+        assertThat(classMapping.getFieldPlan()).isNotSameAs(fieldPlan);
+        assertThat(classMapping.getFieldPlan().isMapped("field1")).isTrue();
+        assertThat(fieldPlan.isMapped("field1")).isFalse();
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.mapping.method;
+
+import com.github.mrenou.jacksonatic.internal.mapping.ClassMappingInternal;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MethodMappingIndexTest {
+
+    static class Pojo {
+    }
+
+    private final ClassMappingInternal<Pojo> classMapping = new ClassMappingInternal<>(Pojo.class);
+
+    @Test
+    public void find_mapping_of_method_with_same_parameters_before_mapping_ignoring_parameters() {
+        classMapping.mapSetter("field", "any");
+        classMapping.mapSetter("field", "string", String.class);
+
+        MethodMappingIndex index = classMapping.getMethodMappingIndex();
+
+        assertThat(index.find("setField", new Class<?>[]{String.class}).getMappedName()).isEqualTo("string");
+        assertThat(index.find("setField", new Class<?>[]{Integer.class}).getMappedName()).isEqualTo("any");
+        assertThat(index.find("setField", new Class<?>[0]).getMappedName()).isEqualTo("any");
+        assertThat(index.find("getField", new Class<?>[0])).isNull();
+    }
+
+    @Test
+    public void find_no_mapping_when_parameters_differ() {
+        classMapping.mapSetter("field", "string", String.class);
+        classMapping.mapGetter("field");
+
+        MethodMappingIndex index = classMapping.getMethodMappingIndex();
+
+        assertThat(index.find("setField", new Class<?>[]{Object.class})).isNull();
+        assertThat(index.find("setField", new Class<?>[]{String.class, String.class})).isNull();
+        assertThat(index.find("getField", new Class<?>[0])).isNotNull();
+    }
+
+    @Test
+    public void rebuild_index_when_a_method_mapping_is_added() {
+        MethodMappingIndex emptyIndex = classMapping.getMethodMappingIndex();
+        assertThat(emptyIndex.isEmpty()).isTrue();
+        assertThat(classMapping.getMethodMappingIndex()).isSameAs(emptyIndex);
+
+        classMapping.mapGetter("field");
+
+        assertThat(classMapping.getMethodMappingIndex()).isNotSameAs(emptyIndex);
+        assertThat(classMapping.getMethodMappingIndex().find("getField", new Class<?>[0])).isNotNull();
+    }
+}
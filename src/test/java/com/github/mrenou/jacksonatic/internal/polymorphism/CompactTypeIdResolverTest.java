@@ -0,0 +1,77 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.polymorphism;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompactTypeIdResolverTest {
+
+    static class Parent {
+    }
+
+    static class Child extends Parent {
+    }
+
+    static class OtherChild extends Parent {
+    }
+
+    private final MapperConfig<?> config = new ObjectMapper().getDeserializationConfig();
+
+    @Test
+    public void resolve_compact_ids_and_names() {
+        CompactTypeIdResolver resolver = new CompactTypeIdResolver(config, config.constructType(Parent.class),
+                Arrays.asList(new NamedType(Parent.class), new NamedType(Child.class, "2"), new NamedType(OtherChild.class, "OTHER")));
+
+        assertThat(resolver.typeFromId("2").getRawClass()).isEqualTo(Child.class);
+        assertThat(resolver.typeFromId("OTHER").getRawClass()).isEqualTo(OtherChild.class);
+        assertThat(resolver.typeFromId("0")).isNull();
+        assertThat(resolver.typeFromId("3")).isNull();
+        assertThat(resolver.compactIdOf(Child.class)).isEqualTo("2");
+        assertThat(resolver.compactIdOf(OtherChild.class)).isNull();
+        assertThat(resolver.idFromValue(new OtherChild())).isEqualTo("OTHER");
+        assertThat(resolver.idFromValue(new Parent())).isEqualTo("CompactTypeIdResolverTest$Parent");
+        assertThat(resolver.getDescForKnownTypeIds()).isEqualTo("[2, OTHER]");
+    }
+
+    @Test
+    public void resolve_sparse_compact_ids() {
+        CompactTypeIdResolver resolver = new CompactTypeIdResolver(config, config.constructType(Parent.class),
+                Arrays.asList(new NamedType(Child.class, "1"), new NamedType(OtherChild.class, "999999999")));
+
+        assertThat(resolver.typeFromId("1").getRawClass()).isEqualTo(Child.class);
+        assertThat(resolver.typeFromId("999999999").getRawClass()).isEqualTo(OtherChild.class);
+        assertThat(resolver.typeFromId("2")).isNull();
+        assertThat(resolver.getDescForKnownTypeIds()).isEqualTo("[1, 999999999]");
+    }
+
+    @Test
+    public void parse_compact_type_ids() {
+        assertThat(CompactTypeIdResolver.parseTypeId("0")).isEqualTo(0);
+        assertThat(CompactTypeIdResolver.parseTypeId("042")).isEqualTo(42);
+        assertThat(CompactTypeIdResolver.parseTypeId("999999999")).isEqualTo(999999999);
+        assertThat(CompactTypeIdResolver.parseTypeId("1000000000")).isEqualTo(-1);
+        assertThat(CompactTypeIdResolver.parseTypeId("")).isEqualTo(-1);
+        assertThat(CompactTypeIdResolver.parseTypeId("-1")).isEqualTo(-1);
+        assertThat(CompactTypeIdResolver.parseTypeId("1a")).isEqualTo(-1);
+    }
+}
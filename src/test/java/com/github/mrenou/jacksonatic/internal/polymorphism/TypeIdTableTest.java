@@ -0,0 +1,76 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.polymorphism;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TypeIdTableTest {
+
+    static class Parent {
+    }
+
+    static class Child extends Parent {
+    }
+
+    static class OtherChild extends Parent {
+    }
+
+    private final MapperConfig<?> config = new ObjectMapper().getDeserializationConfig();
+
+    @Test
+    public void resolve_ids_in_both_directions() {
+        TypeIdTable typeIdTable = TypeIdTable.of(config, Arrays.asList(new NamedType(Parent.class), new NamedType(Child.class, "CHILD")));
+
+        assertThat(typeIdTable.typeOf("CHILD").getRawClass()).isEqualTo(Child.class);
+        assertThat(typeIdTable.typeOf("TypeIdTableTest$Parent").getRawClass()).isEqualTo(Parent.class);
+        assertThat(typeIdTable.typeOf("OTHER")).isNull();
+        assertThat(typeIdTable.idOf(Child.class)).isEqualTo("CHILD");
+        assertThat(typeIdTable.idOf(OtherChild.class)).isNull();
+        assertThat(typeIdTable.ids()).containsExactly("CHILD", "TypeIdTableTest$Parent");
+    }
+
+    @Test
+    public void keep_most_specific_type_of_an_id_used_twice() {
+        TypeIdTable typeIdTable = TypeIdTable.of(config, Arrays.asList(new NamedType(Child.class, "SAME"), new NamedType(Parent.class, "SAME")));
+
+        assertThat(typeIdTable.typeOf("SAME").getRawClass()).isEqualTo(Child.class);
+    }
+
+    @Test
+    public void find_every_id_of_a_large_table() {
+        List<NamedType> subTypes = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            subTypes.add(new NamedType(i % 2 == 0 ? Child.class : OtherChild.class, "event" + i));
+        }
+
+        TypeIdTable typeIdTable = TypeIdTable.of(config, subTypes);
+
+        for (int i = 0; i < 300; i++) {
+            assertThat(typeIdTable.typeOf("event" + i).getRawClass()).isEqualTo(i % 2 == 0 ? Child.class : OtherChild.class);
+        }
+        assertThat(typeIdTable.typeOf("event300")).isNull();
+        assertThat(typeIdTable.slotCount()).isLessThanOrEqualTo(300 * 16 * 2);
+    }
+}
@@ -0,0 +1,140 @@
+/**
+ * Copyright (C) 2015 Morgan Renou (mrenou@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mrenou.jacksonatic.internal.util;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+public class LayeredHashMapTest {
+
+    static class Value {
+
+        String value;
+
+        Value(String value) {
+            this.value = value;
+        }
+
+        Value copy() {
+            return new Value(value);
+        }
+    }
+
+    static class TestMap extends LayeredHashMap<String, Value> {
+
+        TestMap copy() {
+            return copyTo(new TestMap());
+        }
+
+        TestMap mergeWith(TestMap map) {
+            return mergeTo(map, (value, otherValue) -> new Value(value.value + "+" + otherValue.value), new TestMap());
+        }
+    }
+
+    @Test
+    public void write_in_a_copy_without_modifying_the_original() {
+        TestMap map = mapOf("a", "b");
+
+        TestMap copy = map.copy();
+        copy.put("c", new Value("c"));
+        copy.remove("a");
+        map.put("d", new Value("d"));
+
+        assertThat(values(map)).containsOnly(entry("a", "a"), entry("b", "b"), entry("d", "d"));
+        assertThat(values(copy)).containsOnly(entry("b", "b"), entry("c", "c"));
+        assertThat(copy.size()).isEqualTo(2);
+        assertThat(copy.get("b")).isSameAs(map.get("b"));
+    }
+
+    @Test
+    public void copy_a_shared_value_before_updating_it() {
+        TestMap map = mapOf("a");
+        TestMap copy = map.copy();
+
+        copy.getForUpdate("a", Value::copy).value = "updated";
+
+        assertThat(map.get("a").value).isEqualTo("a");
+        assertThat(copy.get("a").value).isEqualTo("updated");
+        assertThat(copy.getForUpdate("a", Value::copy)).isSameAs(copy.get("a"));
+        assertThat(copy.getForUpdate("unknown", Value::copy)).isNull();
+    }
+
+    @Test
+    public void merge_two_maps() {
+        TestMap map = mapOf("a", "b");
+        TestMap otherMap = mapOf("b", "c", "d");
+
+        TestMap merge = map.mergeWith(otherMap);
+
+        assertThat(values(merge)).containsOnly(entry("a", "a"), entry("b", "b+b"), entry("c", "c"), entry("d", "d"));
+        assertThat(merge.size()).isEqualTo(4);
+        assertThat(merge.get("c")).isSameAs(otherMap.get("c"));
+        assertThat(values(otherMap.mergeWith(map))).containsOnly(entry("a", "a"), entry("b", "b+b"), entry("c", "c"), entry("d", "d"));
+    }
+
+    @Test
+    public void merge_maps_of_a_deep_hierarchy() {
+        TestMap merge = mapOf("field0");
+        for (int i = 1; i < 30; i++) {
+            merge = mapOf("field" + i).mergeWith(merge);
+            merge.remove("field" + (i - 1));
+            merge.put("field" + (i - 1), new Value("override" + (i - 1)));
+        }
+
+        assertThat(merge.size()).isEqualTo(30);
+        assertThat(merge.get("field0").value).isEqualTo("override0");
+        assertThat(merge.get("field29").value).isEqualTo("field29");
+        assertThat(values(merge)).hasSize(30);
+    }
+
+    @Test
+    public void copy_and_merge_a_map_from_several_threads() {
+        TestMap map = mapOf("a", "b");
+        map.freeze();
+        map.put("c", new Value("c"));
+        TestMap otherMap = mapOf("b", "d");
+
+        List<TestMap> merges = IntStream.range(0, 100).parallel()
+                .mapToObj(i -> i % 2 == 0 ? map.copy().mergeWith(otherMap) : otherMap.mergeWith(map.copy()))
+                .collect(Collectors.toList());
+
+        merges.forEach(merge -> assertThat(values(merge)).containsOnly(entry("a", "a"), entry("b", "b+b"), entry("c", "c"), entry("d", "d")));
+        assertThat(values(map)).containsOnly(entry("a", "a"), entry("b", "b"), entry("c", "c"));
+    }
+
+    private static TestMap mapOf(String... keys) {
+        TestMap map = new TestMap();
+        for (String key : keys) {
+            map.put(key, new Value(key));
+        }
+        return map;
+    }
+
+    private static Map<String, String> values(TestMap map) {
+        Map<String, String> values = new HashMap<>();
+        map.forEach((key, value) -> values.put(key, value.value));
+        map.entrySet().forEach(e -> assertThat(values).containsEntry(e.getKey(), e.getValue().value));
+        return values;
+    }
+}